@@ -0,0 +1,82 @@
+package org.appiumTest;
+
+import org.testng.IConfigurationListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Prints one line per test as it finishes, so a long run shows progress, and counts the outcomes for the
+ * exit code. Retried attempts, which TestNG reports as skips, are shown as RETRY and not counted.
+ */
+class ConsoleReporter implements ITestListener, IConfigurationListener {
+
+    private final long start = System.nanoTime();
+    private final AtomicInteger passed = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+    private final AtomicInteger configurationFailures = new AtomicInteger();
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        passed.incrementAndGet();
+        print("PASS ", result, null);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        failed.incrementAndGet();
+        print("FAIL ", result, result.getThrowable());
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        onTestSuccess(result);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        if (result.wasRetried()) {
+            print("RETRY", result, result.getThrowable());
+            return;
+        }
+        skipped.incrementAndGet();
+        print("SKIP ", result, result.getThrowable());
+    }
+
+    @Override
+    public void onConfigurationFailure(ITestResult result) {
+        configurationFailures.incrementAndGet();
+        print("ERROR", result, result.getThrowable());
+    }
+
+    boolean failed() {
+        return failed.get() > 0 || configurationFailures.get() > 0;
+    }
+
+    int total() {
+        return passed.get() + failed.get() + skipped.get();
+    }
+
+    String summary() {
+        return String.format("%d test(s) in %.1f s: %d passed, %d failed, %d skipped%s",
+                total(), (System.nanoTime() - start) / 1e9, passed.get(), failed.get(), skipped.get(),
+                configurationFailures.get() == 0 ? "" : ", " + configurationFailures.get() + " configuration failure(s)");
+    }
+
+    private static void print(String status, ITestResult result, Throwable cause) {
+        StringBuilder line = new StringBuilder(status).append(' ')
+                .append(result.getTestClass().getRealClass().getSimpleName()).append('.').append(result.getName());
+        if (result.getParameters().length > 0) {
+            line.append(Arrays.toString(result.getParameters()));
+        }
+        line.append(" (").append(result.getEndMillis() - result.getStartMillis()).append(" ms)");
+        if (cause != null) {
+            String message = String.valueOf(cause.getMessage()).lines().findFirst().orElse("");
+            line.append(" - ").append(cause.getClass().getSimpleName()).append(": ").append(message);
+        }
+        System.out.println(line);
+    }
+}
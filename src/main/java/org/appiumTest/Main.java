@@ -1,7 +1,312 @@
 package org.appiumTest;
 
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.TestNG;
+import org.testng.xml.SuiteXmlParser;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Runs the SauceDemo suite with TestNG directly, without Maven and surefire, and prints every result as
+ * soon as it is known. Built as an executable jar with {@code mvn package -Plauncher}:
+ *
+ * <pre>
+ * java -XX:SharedArchiveFile=target/launcher.jsa -jar target/SLIIT_Assignement-1.0-SNAPSHOT.jar \
+ *     --include 'testCheckout*' --driver htmlunit --local
+ * </pre>
+ *
+ * Exit codes: 0 all selected tests passed, 1 a test or configuration method failed, 2 bad arguments,
+ * 3 no test matched the filters.
+ */
 public class Main {
+
+    static final int EXIT_PASSED = 0;
+    static final int EXIT_FAILED = 1;
+    static final int EXIT_USAGE = 2;
+    static final int EXIT_NO_TESTS = 3;
+
+    private static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: java -jar SLIIT_Assignement.jar [options]",
+            "  --suite FILE            TestNG suite to run (default: ./testng.xml, else the one in the jar)",
+            "  --include GLOBS         only test methods matching one of these comma-separated names, e.g. 'testCheckout*'",
+            "  --exclude GLOBS         skip test methods matching one of these names",
+            "  --groups GROUPS         only these groups, e.g. checkout,complete",
+            "  --exclude-groups GROUPS skip these groups",
+            "  --threads N             parallel test threads; 1 runs serially",
+            "  --driver TYPE           auto (default), chrome or htmlunit",
+            "  --base-url URL          login page of the SauceDemo deployment under test",
+            "  --local                 run against the embedded SauceDemo stand-in server",
+            "  --list                  print the selected tests without running them",
+            "  -Dname=value            set any other suite property, e.g. -Dbrowser.profile=headless",
+            "  --help                  show this help");
+
     public static void main(String[] args) {
-        System.out.println("Hello, World!");
+        // The suite leaves non-daemon threads behind (embedded server, browser pool), so exit explicitly
+        System.exit(run(args));
+    }
+
+    static int run(String[] args) {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            return EXIT_USAGE;
+        }
+        if (options.help) {
+            System.out.println(USAGE);
+            return EXIT_PASSED;
+        }
+        options.applySystemProperties();
+
+        List<XmlSuite> suites;
+        try {
+            suites = loadSuites(options.suite);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Could not read the suite: " + e.getMessage());
+            return EXIT_USAGE;
+        }
+        for (XmlSuite suite : suites) {
+            options.filter(suite);
+        }
+        if (suites.stream().allMatch(suite -> suite.getTests().isEmpty())) {
+            System.out.println("No test matches the filters");
+            return EXIT_NO_TESTS;
+        }
+
+        // No default listeners: the HTML and JUnit reports are what makes a small run slow to finish
+        TestNG testng = new TestNG(false);
+        testng.setXmlSuites(suites);
+        testng.setVerbose(0);
+        ConsoleReporter reporter = new ConsoleReporter();
+        testng.addListener(reporter);
+        if (options.list) {
+            // TestNG prints its command line usage when nothing ran, which is the point of a listing
+            PrintStream out = System.out;
+            PrintStream err = System.err;
+            testng.addListener(listOnly(out));
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+            System.setErr(new PrintStream(OutputStream.nullOutputStream()));
+            try {
+                testng.run();
+            } finally {
+                System.setOut(out);
+                System.setErr(err);
+            }
+            return EXIT_PASSED;
+        }
+        testng.run();
+
+        System.out.println(reporter.summary());
+        if (reporter.failed()) {
+            return EXIT_FAILED;
+        }
+        return reporter.total() == 0 ? EXIT_NO_TESTS : EXIT_PASSED;
+    }
+
+    private static List<XmlSuite> loadSuites(String suite) throws IOException {
+        Path file = Paths.get(suite == null ? "testng.xml" : suite);
+        if (suite != null || Files.isRegularFile(file)) {
+            try (InputStream in = new FileInputStream(file.toFile())) {
+                return new ArrayList<>(List.of(new SuiteXmlParser().parse(file.toString(), in, false)));
+            }
+        }
+        // The launcher profile copies testng.xml into the test classes
+        try (InputStream in = Main.class.getResourceAsStream("/testng.xml")) {
+            if (in == null) {
+                throw new IOException("no testng.xml in the working directory or on the classpath");
+            }
+            return new ArrayList<>(List.of(new SuiteXmlParser().parse("testng.xml", in, false)));
+        }
+    }
+
+    // Prints the methods TestNG would run and hands it none to run
+    private static IMethodInterceptor listOnly(PrintStream out) {
+        return (List<IMethodInstance> methods, ITestContext context) -> {
+            for (IMethodInstance method : methods) {
+                out.println(method.getMethod().getRealClass().getSimpleName() + "." + method.getMethod().getMethodName()
+                        + " " + Arrays.toString(method.getMethod().getGroups()));
+            }
+            return Collections.emptyList();
+        };
+    }
+
+    static final class Options {
+        String suite;
+        final List<Pattern> includes = new ArrayList<>();
+        final List<Pattern> excludes = new ArrayList<>();
+        final List<String> groups = new ArrayList<>();
+        final List<String> excludedGroups = new ArrayList<>();
+        final List<String[]> properties = new ArrayList<>();
+        boolean list;
+        boolean help;
+
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                if (arg.startsWith("-D")) {
+                    int equals = arg.indexOf('=');
+                    if (equals < 3) {
+                        throw new IllegalArgumentException("Expected -Dname=value but got " + arg);
+                    }
+                    options.property(arg.substring(2, equals), arg.substring(equals + 1));
+                    continue;
+                }
+                String name = arg;
+                String value = null;
+                int equals = arg.indexOf('=');
+                if (arg.startsWith("--") && equals > 0) {
+                    name = arg.substring(0, equals);
+                    value = arg.substring(equals + 1);
+                }
+                switch (name) {
+                    case "--help":
+                    case "-h":
+                        options.help = true;
+                        break;
+                    case "--list":
+                        options.list = true;
+                        break;
+                    case "--local":
+                        options.property("saucedemo.local", "true");
+                        break;
+                    default:
+                        if (value == null) {
+                            if (i + 1 == args.length) {
+                                throw new IllegalArgumentException(name.startsWith("--") ? "Missing value for " + name : "Unknown argument " + name);
+                            }
+                            value = args[++i];
+                        }
+                        options.option(name, value);
+                }
+            }
+            return options;
+        }
+
+        private void option(String name, String value) {
+            switch (name) {
+                case "--suite":
+                    suite = value;
+                    break;
+                case "--include":
+                    includes.addAll(globs(value));
+                    break;
+                case "--exclude":
+                    excludes.addAll(globs(value));
+                    break;
+                case "--groups":
+                    groups.addAll(split(value));
+                    break;
+                case "--exclude-groups":
+                    excludedGroups.addAll(split(value));
+                    break;
+                case "--threads":
+                    try {
+                        property("threads", Integer.toString(Integer.parseInt(value.trim())));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("--threads expects a number but got " + value);
+                    }
+                    break;
+                case "--driver":
+                    String driver = value.trim().toLowerCase(Locale.ROOT);
+                    if (!List.of("auto", "chrome", "htmlunit").contains(driver)) {
+                        throw new IllegalArgumentException("--driver expects auto, chrome or htmlunit but got " + value);
+                    }
+                    property("driver", driver);
+                    break;
+                case "--base-url":
+                    property("saucedemo.baseUrl", value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown argument " + name);
+            }
+        }
+
+        private void property(String name, String value) {
+            properties.add(new String[]{name, value});
+        }
+
+        // The suite classes read their properties in static initializers, so set them before TestNG loads any
+        void applySystemProperties() {
+            for (String[] property : properties) {
+                System.setProperty(property[0], property[1]);
+            }
+        }
+
+        /**
+         * Narrows every class of the suite to the selected methods. Classes with an explicit method list keep
+         * the listed methods that match; a class left with none is dropped, since an empty list means all.
+         */
+        void filter(XmlSuite suite) {
+            for (XmlTest test : new ArrayList<>(suite.getTests())) {
+                groups.forEach(test::addIncludedGroup);
+                excludedGroups.forEach(test::addExcludedGroup);
+                List<XmlClass> classes = new ArrayList<>();
+                for (XmlClass xmlClass : test.getXmlClasses()) {
+                    if (xmlClass.getIncludedMethods().isEmpty()) {
+                        xmlClass.setIncludedMethods(includes.stream().map(glob -> new XmlInclude(glob.pattern())).collect(Collectors.toList()));
+                        List<String> excluded = new ArrayList<>(xmlClass.getExcludedMethods());
+                        excludes.forEach(glob -> excluded.add(glob.pattern()));
+                        xmlClass.setExcludedMethods(excluded);
+                        classes.add(xmlClass);
+                        continue;
+                    }
+                    List<XmlInclude> selected = xmlClass.getIncludedMethods().stream()
+                            .filter(include -> selected(include.getName()))
+                            .collect(Collectors.toList());
+                    if (!selected.isEmpty()) {
+                        xmlClass.setIncludedMethods(selected);
+                        classes.add(xmlClass);
+                    }
+                }
+                if (classes.isEmpty()) {
+                    suite.getTests().remove(test);
+                } else {
+                    test.setXmlClasses(classes);
+                }
+            }
+        }
+
+        private boolean selected(String method) {
+            return (includes.isEmpty() || includes.stream().anyMatch(glob -> glob.matcher(method).matches()))
+                    && excludes.stream().noneMatch(glob -> glob.matcher(method).matches());
+        }
+
+        private static List<String> split(String value) {
+            return Arrays.stream(value.split(","))
+                    .map(String::trim)
+                    .filter(part -> !part.isEmpty())
+                    .collect(Collectors.toList());
+        }
+
+        // TestNG matches method includes as regular expressions, so globs are translated rather than quoted whole
+        private static List<Pattern> globs(String value) {
+            return split(value).stream()
+                    .map(glob -> Arrays.stream(glob.split("\\*", -1)).map(Pattern::quote).collect(Collectors.joining(".*")))
+                    .map(Pattern::compile)
+                    .collect(Collectors.toList());
+        }
     }
-}
\ No newline at end of file
+}
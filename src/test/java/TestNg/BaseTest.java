@@ -0,0 +1,104 @@
+package TestNg;
+
+import TestNg.driver.BrowserPool;
+import TestNg.driver.DriverPool;
+import TestNg.driver.DriverType;
+import TestNg.driver.KeepAssets;
+import TestNg.driver.ResourceBlocker;
+import TestNg.fixtures.CartFixture;
+import TestNg.metrics.LatencyRecorder;
+import TestNg.waits.SettleHistory;
+import TestNg.waits.Waits;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.testng.IDataProviderMethod;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+import org.testng.SkipException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.BeforeSuite;
+import org.testng.xml.XmlSuite;
+
+import java.lang.reflect.Method;
+
+public abstract class BaseTest {
+    protected final String BASE_URL = Environment.baseUrl();
+
+    @BeforeMethod(alwaysRun = true)
+    public void setup(Method method) {
+        LatencyRecorder.startTest(method.getDeclaringClass().getSimpleName() + "." + method.getName());
+        WebDriver driver = DriverPool.acquire(DriverType.forMethod(method));
+        boolean keepAssets = method.isAnnotationPresent(KeepAssets.class);
+        // A pre-warmed browser already shows the login page. @KeepAssets tests reload it, since the page
+        // was parked with the profile's asset blocking
+        if (DriverPool.takeParked() && !keepAssets) {
+            return;
+        }
+        ResourceBlocker.apply(driver, !keepAssets);
+        driver.get(BASE_URL);
+    }
+
+    /**
+     * Starts launching browsers in the background so the first test on each thread does not pay for a
+     * cold start. The default covers the most tests that run at once: the rows of the parallel login matrix
+     * run on the data provider threads while the test thread that started them waits, and the other test
+     * threads keep running. {@code -Dpool.size} overrides it.
+     */
+    @BeforeSuite(alwaysRun = true)
+    public void prewarmBrowsers() {
+        if (DriverType.forced() == DriverType.HTMLUNIT) {
+            return;
+        }
+        // TestNG does not inject the context into @BeforeSuite methods
+        XmlSuite suite = Reporter.getCurrentTestResult().getTestContext().getSuite().getXmlSuite();
+        int threads = suite.getParallel() == XmlSuite.ParallelMode.NONE ? 1 : suite.getThreadCount();
+        int browsers = threads - 1 + suite.getDataProviderThreadCount();
+        BrowserPool.prewarm(Integer.getInteger(BrowserPool.SIZE_PROPERTY, browsers), BASE_URL);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void teardown(ITestResult result) {
+        // Data provider threads only serve the rows of one test, so their browsers go back to the pool
+        IDataProviderMethod dataProvider = result.getMethod().getDataProviderMethod();
+        DriverPool.release(!result.isSuccess(), dataProvider != null && dataProvider.isParallel());
+        LatencyRecorder.endTest();
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void shutdownDrivers() {
+        DriverPool.shutdown();
+        System.out.println(Waits.summary());
+        SettleHistory.save();
+    }
+
+    /**
+     * Logs in without the login form by injecting the session cookie SauceDemo sets on a successful
+     * login, then opens the inventory page directly. Only the login tests need to go through the form.
+     */
+    protected void loginFast(String username) {
+        cartFixture().as(username).openInventory();
+    }
+
+    /**
+     * Skips the test when {@code -Ddriver=htmlunit} forces it onto HtmlUnit, which cannot do what it checks.
+     */
+    protected void requireChrome(String reason) {
+        if (DriverType.forced() == DriverType.HTMLUNIT) {
+            throw new SkipException("Needs Chrome: " + reason);
+        }
+    }
+
+    protected CartFixture cartFixture() {
+        return new CartFixture(driver(), driverWait(), BASE_URL);
+    }
+
+    protected WebDriver driver() {
+        return DriverPool.driver();
+    }
+
+    protected WebDriverWait driverWait() {
+        return DriverPool.driverWait();
+    }
+}
@@ -0,0 +1,60 @@
+package TestNg;
+
+import TestNg.server.SauceDemoServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Where the suite points its browsers. By default that is the public SauceDemo site;
+ * {@code -Dsaucedemo.local=true} starts the embedded stand-in server instead, and
+ * {@code -Dsaucedemo.baseUrl=...} points at any other deployment.
+ */
+public final class Environment {
+
+    public static final String BASE_URL_PROPERTY = "saucedemo.baseUrl";
+    public static final String LOCAL_PROPERTY = "saucedemo.local";
+    public static final String LOCAL_PORT_PROPERTY = "saucedemo.local.port";
+    public static final String GLITCH_DELAY_PROPERTY = "saucedemo.local.glitchDelayMs";
+
+    private static final String PUBLIC_BASE_URL = "https://www.saucedemo.com/v1/index.html";
+
+    private static volatile SauceDemoServer localServer;
+
+    private Environment() {
+    }
+
+    public static String baseUrl() {
+        String baseUrl = System.getProperty(BASE_URL_PROPERTY);
+        if (baseUrl != null && !baseUrl.isBlank()) {
+            return baseUrl.trim();
+        }
+        if (Boolean.getBoolean(LOCAL_PROPERTY)) {
+            return localServer().baseUrl();
+        }
+        return PUBLIC_BASE_URL;
+    }
+
+    /**
+     * Starts the embedded server on first use; it lives until the JVM exits.
+     */
+    public static SauceDemoServer localServer() {
+        if (localServer == null) {
+            synchronized (Environment.class) {
+                if (localServer == null) {
+                    try {
+                        SauceDemoServer server = SauceDemoServer.start(
+                                Integer.getInteger(LOCAL_PORT_PROPERTY, 0),
+                                Long.getLong(GLITCH_DELAY_PROPERTY, 3000));
+                        Runtime.getRuntime().addShutdownHook(new Thread(server::close, "saucedemo-server-stop"));
+                        System.out.println("Serving local SauceDemo stand-in at " + server.baseUrl());
+                        localServer = server;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Could not start the local SauceDemo server", e);
+                    }
+                }
+            }
+        }
+        return localServer;
+    }
+}
@@ -0,0 +1,21 @@
+package TestNg;
+
+/**
+ * TestNG groups for the stages of the shopping journey, for selecting a part of the suite (for example
+ * {@code --groups checkout} on the launcher). The stages do not depend on each other: every test builds
+ * its own state with the session cookie and {@code CartFixture}, so all stages run concurrently. Only the
+ * tests that drive the inventory in the browser depend on {@link #SMOKE}, a single login check, and are
+ * skipped at once when it fails.
+ */
+public final class JourneyStage {
+
+    public static final String SMOKE = "smoke";
+    public static final String LOGIN = "login";
+    public static final String INVENTORY = "inventory";
+    public static final String CART = "cart";
+    public static final String CHECKOUT = "checkout";
+    public static final String COMPLETE = "complete";
+
+    private JourneyStage() {
+    }
+}
@@ -0,0 +1,53 @@
+package TestNg;
+
+import TestNg.metrics.LatencyRecorder;
+import TestNg.pages.ProductLocator;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Compares the old {@code following::} XPath lookup of an ADD TO CART button with the indexed lookup
+ * {@link ProductLocator} does. Not part of testng.xml; run it with
+ * {@code mvn test -Dtest=ProductLocatorBenchmark}.
+ */
+public class ProductLocatorBenchmark extends BaseTest {
+
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 50);
+    private static final String[] PRODUCTS = {
+            "Sauce Labs Backpack", "Sauce Labs Bike Light", "Sauce Labs Bolt T-Shirt",
+            "Sauce Labs Fleece Jacket", "Sauce Labs Onesie", "Test.allTheThings() T-Shirt (Red)"
+    };
+
+    @Test(groups = "benchmark")
+    public void xpathVersusIndexedLookup() {
+        loginFast("standard_user");
+        ProductLocator locator = new ProductLocator(driver());
+
+        // Warm up both paths so neither pays for the first script compilation
+        for (String product : PRODUCTS) {
+            Assert.assertEquals(locator.button(product), driver().findElement(ProductLocator.addToCartXPath(product)),
+                    "Index and XPath disagree on " + product);
+        }
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            String product = PRODUCTS[i % PRODUCTS.length];
+
+            long start = System.nanoTime();
+            driver().findElement(ProductLocator.addToCartXPath(product));
+            LatencyRecorder.record("lookup.xpath", System.nanoTime() - start);
+
+            start = System.nanoTime();
+            WebElement button = locator.button(product);
+            LatencyRecorder.record("lookup.index", System.nanoTime() - start);
+            Assert.assertNotNull(button, product);
+        }
+
+        LatencyRecorder.byOperation().forEach((operation, stats) -> {
+            if (operation.startsWith("lookup.")) {
+                System.out.println(operation + ": p50=" + stats.p50() + "ms p95=" + stats.p95() + "ms max="
+                        + stats.max() + "ms over " + stats.count() + " lookups");
+            }
+        });
+    }
+}
@@ -1,167 +1,137 @@
 package TestNg;
 
+import TestNg.driver.Browserless;
+import TestNg.driver.KeepAssets;
+import TestNg.fixtures.LoginCase;
+import TestNg.metrics.PerformanceBudget;
+import TestNg.money.CheckoutMath;
+import TestNg.money.Money;
+import TestNg.pages.CartPage;
+import TestNg.pages.CheckoutStepOnePage;
+import TestNg.pages.CheckoutStepTwoPage;
+import TestNg.pages.CompletePage;
+import TestNg.pages.DomSnapshot;
+import TestNg.pages.InventoryItemPage;
+import TestNg.pages.InventoryPage;
+import TestNg.pages.LoginPage;
+import TestNg.waits.DomMutationWatch;
+import TestNg.waits.Waits;
 import org.openqa.selenium.*;
-import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.Assert;
 import org.testng.annotations.*;
+
 import java.time.Duration;
 
-public class SaucedemoTest {
-    private WebDriver driver;
-    private WebDriverWait wait;
-    private final String BASE_URL = "https://www.saucedemo.com/v1/index.html";
+public class SaucedemoTest extends BaseTest {
     private final String VALID_PASSWORD = "secret_sauce";
 
-    @BeforeMethod
-    public void setup() {
-        driver = new ChromeDriver();
-        driver.manage().window().maximize();
-        driver.get(BASE_URL);
-        wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+    // performance_glitch_user is slow on purpose, so it only reports how far it is over budget. The real site
+    // is slow in the page's scripts (LCP); the embedded server delays the response, so locally it is TTFB
+    private static final PerformanceBudget INVENTORY_BUDGET = PerformanceBudget.forPage("inventory").ttfb(1000).lcp(2500);
+    private static final PerformanceBudget GLITCH_INVENTORY_BUDGET = INVENTORY_BUDGET.warnOnly();
+
+    private LoginPage loginPage() {
+        return new LoginPage(driver(), driverWait());
     }
 
-    @AfterMethod
-    public void teardown() {
-        if (driver != null) {
-            driver.quit();
-        }
+    private InventoryPage inventoryPage() {
+        return new InventoryPage(driver(), driverWait());
     }
 
     private void login(String username, String password) {
-        WebElement usernameField = wait.until(ExpectedConditions.visibilityOfElementLocated(By.id("user-name")));
-        usernameField.clear();
-        usernameField.sendKeys(username);
-
-        WebElement passwordField = wait.until(ExpectedConditions.visibilityOfElementLocated(By.id("password")));
-        passwordField.clear();
-        passwordField.sendKeys(password);
-
-        wait.until(ExpectedConditions.elementToBeClickable(By.id("login-button"))).click();
+        loginPage().login(username, password);
     }
 
     private void logout() {
-        try {
-            // Check if menu is already open by looking for the menu wrap visibility
-            boolean isMenuOpen = driver.findElements(By.cssSelector(".bm-menu-wrap[style*='translateX(0px)']")).size() > 0;
-
-            if (!isMenuOpen) {
-                WebElement hamburgerButton = wait.until(ExpectedConditions.elementToBeClickable(By.cssSelector(".bm-burger-button")));
-                // Use JavaScript click as a fallback to avoid interception
-                try {
-                    hamburgerButton.click();
-                } catch (ElementClickInterceptedException e) {
-                    ((JavascriptExecutor) driver).executeScript("arguments[0].click();", hamburgerButton);
-                }
-            }
-
-            WebElement logoutLink = wait.until(ExpectedConditions.elementToBeClickable(By.id("logout_sidebar_link")));
-            logoutLink.click();
-
-            wait.until(ExpectedConditions.visibilityOfElementLocated(By.id("user-name")));
-        } catch (TimeoutException e) {
-            System.out.println("Logout skipped: User might not be logged in or menu not accessible.");
-        }
+        inventoryPage().logout();
     }
 
-    private void validateInventoryPage() {
-        WebElement inventoryContainer = wait.until(ExpectedConditions.visibilityOfElementLocated(By.id("inventory_container")));
-        Assert.assertTrue(inventoryContainer.isDisplayed(), "Inventory page failed to load.");
+    private PerformanceBudget inventoryBudget(String username) {
+        return "performance_glitch_user".equals(username) ? GLITCH_INVENTORY_BUDGET : INVENTORY_BUDGET;
     }
 
-    @Test(priority = 1)
-    public void testStandardUserLogin() {
-        login("standard_user", VALID_PASSWORD);
-        Assert.assertTrue(driver.getCurrentUrl().contains("/v1/inventory.html"), "Login failed for standard_user");
-        validateInventoryPage();
-        logout();
+    private InventoryPage validateInventoryPage() {
+        InventoryPage inventoryPage = inventoryPage();
+        Assert.assertTrue(inventoryPage.isLoaded(), "Inventory page failed to load.");
+        return inventoryPage;
     }
 
-    @Test(priority = 2)
-    public void testLockedOutUserLogin() {
-        login("locked_out_user", VALID_PASSWORD);
-        WebElement errorMsg = wait.until(ExpectedConditions.visibilityOfElementLocated(By.cssSelector("[data-test='error']")));
-        Assert.assertTrue(errorMsg.getText().contains("locked out"), "Expected locked out message not found.");
+    // Seeds the cart and deep-links to checkout step one instead of clicking through inventory and cart
+    private CheckoutStepOnePage checkoutStepOneWithTwoItems() {
+        CheckoutStepOnePage checkoutPage = cartFixture()
+                .as("standard_user")
+                .withCart("Sauce Labs Backpack", "Sauce Labs Bike Light")
+                .openCheckoutStepOne();
+        Assert.assertTrue(checkoutPage.currentUrl().contains("checkout-step-one.html"), "Did not navigate to checkout page.");
+        return checkoutPage;
     }
 
-    @Test(priority = 3)
-    public void testProblemUserLogin() {
-        login("problem_user", VALID_PASSWORD);
-        Assert.assertTrue(driver.getCurrentUrl().contains("/v1/inventory.html"), "Login failed for problem_user");
-        logout();
-    }
-
-    @Test(priority = 4)
-    public void testPerformanceGlitchUserLogin() {
-        login("performance_glitch_user", VALID_PASSWORD);
-        Assert.assertTrue(driver.getCurrentUrl().contains("/v1/inventory.html"), "Login failed for performance_glitch_user");
-        logout();
+    // The gate for the tests that drive the inventory in the browser: if standard_user cannot reach the
+    // inventory at all, they are skipped instead of each timing out on its own
+    @Browserless
+    @Test(groups = JourneyStage.SMOKE)
+    public void testCanLogIn() {
+        login("standard_user", VALID_PASSWORD);
+        validateInventoryPage();
     }
 
-    @Test(priority = 5)
-    public void testValidUsernameInvalidPassword() {
-        login("standard_user", "wrong_password");
-        WebElement errorMsg = wait.until(ExpectedConditions.visibilityOfElementLocated(By.cssSelector("[data-test='error']")));
-        Assert.assertTrue(errorMsg.getText().contains("Username and password do not match"),
-                "Expected invalid login message not found.");
+    @DataProvider(name = "loginMatrix", parallel = true)
+    public Object[][] loginMatrix() {
+        return LoginCase.load().stream().map(loginCase -> new Object[]{loginCase}).toArray(Object[][]::new);
     }
 
-    @Test(priority = 6)
-    public void testInvalidUsernameValidPassword() {
-        login("invalid_user", VALID_PASSWORD);
-        WebElement errorMsg = wait.until(ExpectedConditions.visibilityOfElementLocated(By.cssSelector("[data-test='error']")));
-        Assert.assertTrue(errorMsg.getText().contains("Username and password do not match"),
-                "Expected invalid login message not found.");
+    // One invocation per row of login-matrix.csv; rows run concurrently on the data provider thread pool
+    @Test(groups = JourneyStage.LOGIN, dataProvider = "loginMatrix")
+    public void testLogin(LoginCase loginCase) {
+        login(loginCase.username(), loginCase.password());
+        if (loginCase.expectation() == LoginCase.Expectation.INVENTORY) {
+            Assert.assertTrue(driver().getCurrentUrl().contains("/v1/inventory.html"), "Login failed for " + loginCase.username());
+            validateInventoryPage();
+            inventoryBudget(loginCase.username()).check(driver());
+            logout();
+        } else {
+            Assert.assertTrue(loginPage().errorText().contains(loginCase.message()),
+                    "Expected '" + loginCase.message() + "' for " + loginCase);
+        }
     }
 
-    @Test(priority = 7)
+    @Test(groups = JourneyStage.INVENTORY, dependsOnGroups = JourneyStage.SMOKE, ignoreMissingDependencies = true)
     public void testHamburgerMenu() {
-        login("standard_user", VALID_PASSWORD);
-        WebElement hamburgerButton = wait.until(ExpectedConditions.elementToBeClickable(By.cssSelector(".bm-burger-button")));
-        try {
-            hamburgerButton.click();
-        } catch (ElementClickInterceptedException e) {
-            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", hamburgerButton);
-        }
-
-        WebElement logoutLink = wait.until(ExpectedConditions.visibilityOfElementLocated(By.id("logout_sidebar_link")));
+        loginFast("standard_user");
+        WebElement logoutLink = inventoryPage().openMenu();
         Assert.assertTrue(logoutLink.isDisplayed(), "Logout link not visible in hamburger menu.");
         // Skip logout here to avoid redundant menu click; logout is tested elsewhere
     }
 
-    @Test(priority = 8)
+    @KeepAssets
+    @Test(groups = JourneyStage.INVENTORY, dependsOnGroups = JourneyStage.SMOKE, ignoreMissingDependencies = true)
     public void testProductImageClick() {
-        login("standard_user", VALID_PASSWORD);
-        validateInventoryPage();
+        loginFast("standard_user");
+        InventoryPage inventoryPage = validateInventoryPage();
 
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
         // Locate the product image on the inventory page
-        WebElement productImage = wait.until(ExpectedConditions.elementToBeClickable(By.className("inventory_item_img")));
+        WebElement productImage = inventoryPage.firstProductImage();
         Assert.assertTrue(productImage.isDisplayed(), "Product image is not visible.");
-        productImage.click();
+        InventoryItemPage itemPage = inventoryPage.openFirstProduct();
 
         // Validate the product name on the details page
-        WebElement productName = wait.until(ExpectedConditions.visibilityOfElementLocated(By.className("inventory_details_name")));
-        Assert.assertTrue(productName.getText().contains("Sauce Labs Backpack"), "Product name does not match.");
+        Assert.assertTrue(itemPage.productName().contains("Sauce Labs Backpack"), "Product name does not match.");
 
         logout();
     }
 
-    @Test(priority = 9)
+    @Test(groups = JourneyStage.INVENTORY, dependsOnGroups = JourneyStage.SMOKE, ignoreMissingDependencies = true)
     public void testAddToCartButtonChangesToRemove() {
-        login("standard_user", VALID_PASSWORD);
-        validateInventoryPage();
+        loginFast("standard_user");
+        InventoryPage inventoryPage = validateInventoryPage();
 
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
         // Locate the "Add to Cart" button for Sauce Labs Backpack using a simpler locator
-        WebElement cartButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.xpath("//button[contains(text(), 'ADD TO CART')]")
-        ));
+        WebElement cartButton = inventoryPage.firstAddToCartButton();
 
         // Click the button and wait for it to change to "REMOVE"
         cartButton.click();
-        wait.until(ExpectedConditions.textToBePresentInElement(cartButton, "REMOVE"));
+        driverWait().until(ExpectedConditions.textToBePresentInElement(cartButton, "REMOVE"));
 
         // Verify the button now says "REMOVE"
         Assert.assertEquals(cartButton.getText(), "REMOVE", "Button text did not change to REMOVE.");
@@ -169,276 +139,134 @@ public class SaucedemoTest {
         logout();
     }
 
-    @Test(priority = 10)
+    @Browserless
+    @Test(groups = JourneyStage.CART)
     public void testShoppingCartContainer() {
-        login("standard_user", VALID_PASSWORD);
-        validateInventoryPage();
+        loginFast("standard_user");
+        InventoryPage inventoryPage = validateInventoryPage();
 
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
         // Add an item to the cart (Sauce Labs Backpack)
-        WebElement cartButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.xpath("//button[contains(text(), 'ADD TO CART')]")
-        ));
-        cartButton.click();
-
-        // Locate the shopping cart badge
-        WebElement cartBadge = wait.until(ExpectedConditions.visibilityOfElementLocated(
-                By.className("shopping_cart_badge")
-        ));
+        inventoryPage.firstAddToCartButton().click();
 
         // Verify the badge count is 1
-        Assert.assertEquals(cartBadge.getText(), "1", "Shopping cart badge count is incorrect.");
+        Assert.assertEquals(inventoryPage.cartBadgeText(), "1", "Shopping cart badge count is incorrect.");
 
         logout();
     }
 
-    @Test(priority = 11)
-    public void testContinueShoppingButton() throws InterruptedException {
-        login("standard_user", VALID_PASSWORD);
-        validateInventoryPage();
-
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-
-        WebElement cartButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.xpath("//button[contains(text(), 'ADD TO CART')]")
-        ));
-        cartButton.click();
-
-        WebElement cartLink = wait.until(ExpectedConditions.elementToBeClickable(
-                By.className("shopping_cart_link")
-        ));
-        cartLink.click();
+    @Test(groups = JourneyStage.CART, dependsOnGroups = JourneyStage.SMOKE, ignoreMissingDependencies = true)
+    public void testContinueShoppingButton() {
+        loginFast("standard_user");
+        InventoryPage inventoryPage = validateInventoryPage();
 
-        WebElement continueShoppingButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.xpath("//a[text()='Continue Shopping']")
-        ));
+        inventoryPage.firstAddToCartButton().click();
+        CartPage cartPage = inventoryPage.openCart();
+        String cartUrl = cartPage.currentUrl();
 
         // Scroll and JS click
-        JavascriptExecutor js = (JavascriptExecutor) driver;
-        js.executeScript("arguments[0].scrollIntoView(true);", continueShoppingButton);
-        js.executeScript("arguments[0].click();", continueShoppingButton);
+        cartPage.continueShopping();
 
-        // Wait to allow navigation
-        Thread.sleep(2000); // you can replace with a wait for URL to change
+        // Wait for the navigation to finish instead of sleeping a fixed 2 seconds
+        Waits.timed("Continue Shopping navigation", driverWait(),
+                Waits.navigatedTo(cartUrl, "inventory.html"), Duration.ofSeconds(2));
 
-        System.out.println("Current URL after clicking Continue Shopping: " + driver.getCurrentUrl());
-        Assert.assertTrue(driver.getCurrentUrl().contains("inventory.html"), "Did not navigate to inventory page.");
+        System.out.println("Current URL after clicking Continue Shopping: " + driver().getCurrentUrl());
+        Assert.assertTrue(driver().getCurrentUrl().contains("inventory.html"), "Did not navigate to inventory page.");
 
         logout();
     }
 
 
     // Test 12: Add another item to cart after continuing shopping
-    @Test(priority = 12)
-    public void testAddAnotherItemAfterContinuingShopping() throws InterruptedException {
-        login("standard_user", VALID_PASSWORD);
-        validateInventoryPage();
+    @Test(groups = JourneyStage.CART, dependsOnGroups = JourneyStage.SMOKE, ignoreMissingDependencies = true)
+    public void testAddAnotherItemAfterContinuingShopping() {
+        requireChrome("HtmlUnit's MutationObserver does not report the cart badge changes");
+        loginFast("standard_user");
+        InventoryPage inventoryPage = validateInventoryPage();
 
         // Simulate the state where one item is already in the cart (Sauce Labs Backpack)
-        WebElement initialCartButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.xpath("//div[@class='inventory_item_label'][contains(., 'Sauce Labs Backpack')]//following::button[contains(text(), 'ADD TO CART')]")
-        ));
-        JavascriptExecutor js = (JavascriptExecutor) driver;
-        js.executeScript("arguments[0].click();", initialCartButton); // Use JS click for reliability
-
-        // Navigate to the cart
-        WebElement cartLink = wait.until(ExpectedConditions.elementToBeClickable(
-                By.className("shopping_cart_link")
-        ));
-        cartLink.click();
-
-        // Click "Continue Shopping" to return to inventory page
-        WebElement continueShoppingButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.xpath("//a[text()='Continue Shopping']")
-        ));
-        js.executeScript("arguments[0].scrollIntoView(true);", continueShoppingButton);
-        js.executeScript("arguments[0].click();", continueShoppingButton);
+        inventoryPage.addToCart("Sauce Labs Backpack");
+
+        // Navigate to the cart, then click "Continue Shopping" to return to inventory page
+        CartPage cartPage = inventoryPage.openCart();
+        String cartUrl = cartPage.currentUrl();
+        inventoryPage = cartPage.continueShopping();
 
         // Wait for navigation back to inventory page
-        wait.until(ExpectedConditions.urlContains("inventory.html"));
-        Assert.assertTrue(driver.getCurrentUrl().contains("inventory.html"), "Did not navigate back to inventory page.");
-        System.out.println("Current URL: " + driver.getCurrentUrl());
+        driverWait().until(Waits.navigatedTo(cartUrl, "inventory.html"));
+        Assert.assertTrue(driver().getCurrentUrl().contains("inventory.html"), "Did not navigate back to inventory page.");
+        System.out.println("Current URL: " + driver().getCurrentUrl());
 
         // Add another item to the cart (Sauce Labs Bolt T-Shirt)
+        DomMutationWatch cartBadgeWatch = Waits.watchDom(driver(), "#shopping_cart_container");
         try {
-            WebElement secondCartButton = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.xpath("//div[@class='inventory_item_label'][contains(., 'Sauce Labs Bolt T-Shirt')]//following::button[contains(text(), 'ADD TO CART')]")
-            ));
+            inventoryPage.addToCart("Sauce Labs Bolt T-Shirt");
             System.out.println("Second item 'Add to Cart' button found.");
-            js.executeScript("arguments[0].click();", secondCartButton); // Use JS click for reliability
         } catch (TimeoutException e) {
             System.out.println("Second item 'Add to Cart' button not found. Printing page source for debugging:");
-            System.out.println(driver.getPageSource());
+            System.out.println(driver().getPageSource());
             throw e;
         }
 
-        // Verify the cart badge count is now 2
-        WebElement cartBadge = wait.until(ExpectedConditions.visibilityOfElementLocated(
-                By.className("shopping_cart_badge")
-        ));
-        Assert.assertEquals(cartBadge.getText(), "2", "Shopping cart badge count should be 2 after adding another item.");
+        // Verify the cart badge count is now 2, once the badge has re-rendered
+        driverWait().until(cartBadgeWatch.mutated());
+        Assert.assertEquals(inventoryPage.cartBadgeText(), "2", "Shopping cart badge count should be 2 after adding another item.");
 
         logout();
     }
 
-    @Test(priority = 13)
-    public void testProceedToCheckoutWithEmptyForm() throws InterruptedException {
-        login("standard_user", VALID_PASSWORD);
-        validateInventoryPage();
-
-        JavascriptExecutor js = (JavascriptExecutor) driver;
-
-        // Add first item (Sauce Labs Backpack)
-        WebElement firstCartButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.xpath("//div[@class='inventory_item_label'][contains(., 'Sauce Labs Backpack')]//following::button[contains(text(), 'ADD TO CART')]")
-        ));
-        js.executeScript("arguments[0].click();", firstCartButton);
-
-        // Add second item (Sauce Labs Bike Light)
-        WebElement secondCartButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.xpath("//div[@class='inventory_item_label'][contains(., 'Sauce Labs Bike Light')]//following::button[contains(text(), 'ADD TO CART')]")
-        ));
-        js.executeScript("arguments[0].click();", secondCartButton);
-
-        // Navigate to the cart
-        WebElement cartLink = wait.until(ExpectedConditions.elementToBeClickable(
-                By.className("shopping_cart_link")
-        ));
-        js.executeScript("arguments[0].click();", cartLink);
+    @Browserless
+    @Test(groups = JourneyStage.CHECKOUT)
+    public void testProceedToCheckoutWithEmptyForm() {
+        // Start on the cart page with two items already in it
+        CartPage cartPage = cartFixture()
+                .as("standard_user")
+                .withCart("Sauce Labs Backpack", "Sauce Labs Bike Light")
+                .openCart();
 
         // Verify cart page and badge count
-        wait.until(ExpectedConditions.urlContains("cart.html"));
-        WebElement cartBadge = wait.until(ExpectedConditions.visibilityOfElementLocated(
-                By.className("shopping_cart_badge")
-        ));
-        Assert.assertEquals(cartBadge.getText(), "2", "Shopping cart badge count should be 2 before checkout.");
+        Assert.assertEquals(cartPage.cartBadgeText(), "2", "Shopping cart badge count should be 2 before checkout.");
 
         // Click "Checkout" button
-        WebElement checkoutButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.className("checkout_button")
-        ));
-        js.executeScript("arguments[0].click();", checkoutButton);
-
-        // Verify navigation to checkout page
-        wait.until(ExpectedConditions.urlContains("checkout-step-one.html"));
-        Assert.assertTrue(driver.getCurrentUrl().contains("checkout-step-one.html"), "Did not navigate to checkout page.");
+        CheckoutStepOnePage checkoutPage = cartPage.checkout();
+        Assert.assertTrue(checkoutPage.currentUrl().contains("checkout-step-one.html"), "Did not navigate to checkout page.");
 
         // Submit form with all fields empty
-        WebElement continueButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.cssSelector("input.btn_primary.cart_button")
-        ));
-        js.executeScript("arguments[0].click();", continueButton);
+        checkoutPage.submit();
 
         // Validate error message
-        WebElement errorMsg = wait.until(ExpectedConditions.visibilityOfElementLocated(
-                By.cssSelector("h3[data-test='error']")
-        ));
-        Assert.assertTrue(errorMsg.getText().contains("First Name is required"), "Expected error message for empty form fields not found.");
+        Assert.assertTrue(checkoutPage.errorText().contains("First Name is required"), "Expected error message for empty form fields not found.");
 
         logout();
     }
 
 
 
-    @Test(priority = 14)
+    @Browserless
+    @Test(groups = JourneyStage.CHECKOUT)
     public void testCheckoutFormFirstNameEmpty() {
-        login("standard_user", VALID_PASSWORD);
-        validateInventoryPage();
-
-        JavascriptExecutor js = (JavascriptExecutor) driver;
-
-        // Add first item (Sauce Labs Backpack)
-        WebElement firstCartButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.xpath("//div[@class='inventory_item_label'][contains(., 'Sauce Labs Backpack')]//following::button[contains(text(), 'ADD TO CART')]")
-        ));
-        js.executeScript("arguments[0].click();", firstCartButton);
-
-        // Add second item (Sauce Labs Bike Light)
-        WebElement secondCartButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.xpath("//div[@class='inventory_item_label'][contains(., 'Sauce Labs Bike Light')]//following::button[contains(text(), 'ADD TO CART')]")
-        ));
-        js.executeScript("arguments[0].click();", secondCartButton);
-
-        // Navigate to the cart
-        WebElement cartLink = wait.until(ExpectedConditions.elementToBeClickable(
-                By.className("shopping_cart_link")
-        ));
-        js.executeScript("arguments[0].click();", cartLink);
-
-        // Verify cart page
-        wait.until(ExpectedConditions.urlContains("cart.html"));
-        Assert.assertTrue(driver.getCurrentUrl().contains("cart.html"), "Did not land on cart page");
-
-        // Click "Checkout" button
-        WebElement checkoutButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.className("checkout_button")
-        ));
-        js.executeScript("arguments[0].click();", checkoutButton);
-
-        // Verify navigation to checkout page
-        wait.until(ExpectedConditions.urlContains("checkout-step-one.html"));
-        Assert.assertTrue(driver.getCurrentUrl().contains("checkout-step-one.html"), "Did not navigate to checkout page.");
+        CheckoutStepOnePage checkoutPage = checkoutStepOneWithTwoItems();
 
         // Fill form with First Name empty, but other fields filled
-        driver.findElement(By.id("last-name")).sendKeys("Doe");
-        driver.findElement(By.id("postal-code")).sendKeys("12345");
+        checkoutPage.lastNameField().sendKeys("Doe");
+        checkoutPage.postalCodeField().sendKeys("12345");
 
         // Submit form
-        WebElement continueButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.cssSelector("input.btn_primary.cart_button")
-        ));
-        js.executeScript("arguments[0].click();", continueButton);
+        checkoutPage.submit();
 
         // Validate error message
-        WebElement errorMsg = wait.until(ExpectedConditions.visibilityOfElementLocated(
-                By.cssSelector("h3[data-test='error']")
-        ));
-        Assert.assertTrue(errorMsg.getText().contains("First Name is required"), "Expected error message for missing First Name not found.");
+        Assert.assertTrue(checkoutPage.errorText().contains("First Name is required"), "Expected error message for missing First Name not found.");
 
         logout();
     }
 
-    @Test(priority = 15)
+    @Browserless
+    @Test(groups = JourneyStage.CHECKOUT)
     public void testCheckoutFormLastNameEmpty() {
-        login("standard_user", VALID_PASSWORD);
-        validateInventoryPage();
-
-        JavascriptExecutor js = (JavascriptExecutor) driver;
-
-        // Add first item (Sauce Labs Backpack)
-        WebElement firstCartButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.xpath("//div[@class='inventory_item_label'][contains(., 'Sauce Labs Backpack')]//following::button[contains(text(), 'ADD TO CART')]")
-        ));
-        js.executeScript("arguments[0].click();", firstCartButton);
-
-        // Add second item (Sauce Labs Bike Light)
-        WebElement secondCartButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.xpath("//div[@class='inventory_item_label'][contains(., 'Sauce Labs Bike Light')]//following::button[contains(text(), 'ADD TO CART')]")
-        ));
-        js.executeScript("arguments[0].click();", secondCartButton);
-
-        // Navigate to the cart
-        WebElement cartLink = wait.until(ExpectedConditions.elementToBeClickable(
-                By.className("shopping_cart_link")
-        ));
-        js.executeScript("arguments[0].click();", cartLink);
-
-        // Verify cart page
-        wait.until(ExpectedConditions.urlContains("cart.html"));
-        Assert.assertTrue(driver.getCurrentUrl().contains("cart.html"), "Did not land on cart page");
-
-        // Click "Checkout" button
-        WebElement checkoutButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.className("checkout_button")
-        ));
-        js.executeScript("arguments[0].click();", checkoutButton);
-
-        // Verify navigation to checkout page
-        wait.until(ExpectedConditions.urlContains("checkout-step-one.html"));
-        Assert.assertTrue(driver.getCurrentUrl().contains("checkout-step-one.html"), "Did not navigate to checkout page.");
+        CheckoutStepOnePage checkoutPage = checkoutStepOneWithTwoItems();
 
         // Fill form with Last Name empty, but other fields filled
-        WebElement firstNameField = driver.findElement(By.id("first-name"));
+        WebElement firstNameField = checkoutPage.firstNameField();
         firstNameField.clear(); // Ensure the field is cleared
         firstNameField.sendKeys("John");
         // Verify the first name field value
@@ -446,23 +274,17 @@ public class SaucedemoTest {
         System.out.println("First Name field value: " + firstNameValue);
         Assert.assertEquals(firstNameValue, "John", "First Name field was not set correctly.");
 
-        WebElement lastNameField = driver.findElement(By.id("last-name"));
+        WebElement lastNameField = checkoutPage.lastNameField();
         lastNameField.clear(); // Explicitly clear Last Name
         lastNameField.sendKeys(""); // Ensure Last Name is empty
 
-        driver.findElement(By.id("postal-code")).sendKeys("12345");
+        checkoutPage.postalCodeField().sendKeys("12345");
 
         // Submit form
-        WebElement continueButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.cssSelector("input.btn_primary.cart_button")
-        ));
-        js.executeScript("arguments[0].click();", continueButton);
+        checkoutPage.submit();
 
         // Validate error message
-        WebElement errorMsg = wait.until(ExpectedConditions.visibilityOfElementLocated(
-                By.cssSelector("h3[data-test='error']")
-        ));
-        String actualErrorMessage = errorMsg.getText();
+        String actualErrorMessage = checkoutPage.errorText();
         System.out.println("Actual error message: " + actualErrorMessage); // Debug log
         Assert.assertTrue(actualErrorMessage.toLowerCase().contains("last name is required"),
                 "Expected error message for missing Last Name not found. Actual: " + actualErrorMessage);
@@ -470,322 +292,110 @@ public class SaucedemoTest {
         logout();
     }
 
-    @Test(priority = 16)
+    @Browserless
+    @Test(groups = JourneyStage.CHECKOUT)
     public void testCheckoutFormPostalCodeEmpty() {
-        login("standard_user", VALID_PASSWORD);
-        validateInventoryPage();
-
-        JavascriptExecutor js = (JavascriptExecutor) driver;
-
-        // Add first item (Sauce Labs Backpack)
-        WebElement firstCartButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.xpath("//div[@class='inventory_item_label'][contains(., 'Sauce Labs Backpack')]//following::button[contains(text(), 'ADD TO CART')]")
-        ));
-        js.executeScript("arguments[0].click();", firstCartButton);
-
-        // Add second item (Sauce Labs Bike Light)
-        WebElement secondCartButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.xpath("//div[@class='inventory_item_label'][contains(., 'Sauce Labs Bike Light')]//following::button[contains(text(), 'ADD TO CART')]")
-        ));
-        js.executeScript("arguments[0].click();", secondCartButton);
-
-        // Navigate to the cart
-        WebElement cartLink = wait.until(ExpectedConditions.elementToBeClickable(
-                By.className("shopping_cart_link")
-        ));
-        js.executeScript("arguments[0].click();", cartLink);
-
-        // Verify cart page
-        wait.until(ExpectedConditions.urlContains("cart.html"));
-        Assert.assertTrue(driver.getCurrentUrl().contains("cart.html"), "Did not land on cart page");
-
-        // Click "Checkout" button
-        WebElement checkoutButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.className("checkout_button")
-        ));
-        js.executeScript("arguments[0].click();", checkoutButton);
-
-        // Verify navigation to checkout page
-        wait.until(ExpectedConditions.urlContains("checkout-step-one.html"));
-        Assert.assertTrue(driver.getCurrentUrl().contains("checkout-step-one.html"), "Did not navigate to checkout page.");
+        CheckoutStepOnePage checkoutPage = checkoutStepOneWithTwoItems();
 
         // Fill form with Postal Code empty, but other fields filled
-        driver.findElement(By.id("first-name")).sendKeys("John");
-        driver.findElement(By.id("last-name")).sendKeys("Doe");
+        checkoutPage.firstNameField().sendKeys("John");
+        checkoutPage.lastNameField().sendKeys("Doe");
 
         // Submit form
-        WebElement continueButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.cssSelector("input.btn_primary.cart_button")
-        ));
-        js.executeScript("arguments[0].click();", continueButton);
+        checkoutPage.submit();
 
         // Validate error message
-        WebElement errorMsg = wait.until(ExpectedConditions.visibilityOfElementLocated(
-                By.cssSelector("h3[data-test='error']")
-        ));
-        Assert.assertTrue(errorMsg.getText().contains("Postal Code is required"), "Expected error message for missing Postal Code not found.");
+        Assert.assertTrue(checkoutPage.errorText().contains("Postal Code is required"), "Expected error message for missing Postal Code not found.");
 
         logout();
     }
 
-    @Test(priority = 17)
+    @Browserless
+    @Test(groups = JourneyStage.CHECKOUT)
     public void testCheckoutFormWithAllDetails() {
-        login("standard_user", VALID_PASSWORD);
-        validateInventoryPage();
-
-        JavascriptExecutor js = (JavascriptExecutor) driver;
-
-        // Add first item (Sauce Labs Backpack)
-        WebElement firstCartButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.xpath("//div[@class='inventory_item_label'][contains(., 'Sauce Labs Backpack')]//following::button[contains(text(), 'ADD TO CART')]")
-        ));
-        js.executeScript("arguments[0].click();", firstCartButton);
-
-        // Add second item (Sauce Labs Bike Light)
-        WebElement secondCartButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.xpath("//div[@class='inventory_item_label'][contains(., 'Sauce Labs Bike Light')]//following::button[contains(text(), 'ADD TO CART')]")
-        ));
-        js.executeScript("arguments[0].click();", secondCartButton);
-
-        // Navigate to the cart
-        WebElement cartLink = wait.until(ExpectedConditions.elementToBeClickable(
-                By.className("shopping_cart_link")
-        ));
-        js.executeScript("arguments[0].click();", cartLink);
+        CheckoutStepOnePage checkoutPage = checkoutStepOneWithTwoItems();
 
-        // Verify cart page
-        wait.until(ExpectedConditions.urlContains("cart.html"));
-        Assert.assertTrue(driver.getCurrentUrl().contains("cart.html"), "Did not land on cart page");
-
-        // Click "Checkout" button
-        WebElement checkoutButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.className("checkout_button")
-        ));
-        js.executeScript("arguments[0].click();", checkoutButton);
-
-        // Verify navigation to checkout page
-        wait.until(ExpectedConditions.urlContains("checkout-step-one.html"));
-        Assert.assertTrue(driver.getCurrentUrl().contains("checkout-step-one.html"), "Did not navigate to checkout page.");
-
-        // Fill form with all details
-        driver.findElement(By.id("first-name")).sendKeys("John");
-        driver.findElement(By.id("last-name")).sendKeys("Doe");
-        driver.findElement(By.id("postal-code")).sendKeys("12345");
-
-        // Submit form
-        WebElement continueButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.cssSelector("input.btn_primary.cart_button")
-        ));
-        js.executeScript("arguments[0].click();", continueButton);
+        // Fill form with all details and submit
+        CheckoutStepTwoPage overviewPage = checkoutPage
+                .fillForm("John", "Doe", "12345")
+                .continueToOverview();
 
         // Verify navigation to checkout step two (overview page)
-        wait.until(ExpectedConditions.urlContains("checkout-step-two.html"));
-        Assert.assertTrue(driver.getCurrentUrl().contains("checkout-step-two.html"), "Did not navigate to checkout step two page.");
+        Assert.assertTrue(overviewPage.currentUrl().contains("checkout-step-two.html"), "Did not navigate to checkout step two page.");
 
         // Optionally, validate that the cart items are displayed on the overview page
-        WebElement cartList = wait.until(ExpectedConditions.visibilityOfElementLocated(
-                By.className("cart_list")
-        ));
-        java.util.List<WebElement> cartItems = cartList.findElements(By.className("cart_item"));
-        Assert.assertEquals(cartItems.size(), 2, "Expected 2 items in the cart on the checkout overview page.");
+        Assert.assertEquals(overviewPage.cartItems().size(), 2, "Expected 2 items in the cart on the checkout overview page.");
 
         logout();
     }
 
-    @Test(priority = 18)
+    @Browserless
+    @Test(groups = JourneyStage.CHECKOUT)
     public void testVerifyItemPricesAndTotal() {
-        login("standard_user", VALID_PASSWORD);
-        validateInventoryPage();
-
-        JavascriptExecutor js = (JavascriptExecutor) driver;
-
-        // Add first item (Sauce Labs Backpack)
-        WebElement firstCartButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.xpath("//div[@class='inventory_item_label'][contains(., 'Sauce Labs Backpack')]//following::button[contains(text(), 'ADD TO CART')]")
-        ));
-        js.executeScript("arguments[0].click();", firstCartButton);
-
-        // Add second item (Sauce Labs Bike Light)
-        WebElement secondCartButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.xpath("//div[@class='inventory_item_label'][contains(., 'Sauce Labs Bike Light')]//following::button[contains(text(), 'ADD TO CART')]")
-        ));
-        js.executeScript("arguments[0].click();", secondCartButton);
-
-        // Navigate to the cart
-        WebElement cartLink = wait.until(ExpectedConditions.elementToBeClickable(
-                By.className("shopping_cart_link")
-        ));
-        js.executeScript("arguments[0].click();", cartLink);
-
-        // Verify cart page
-        wait.until(ExpectedConditions.urlContains("cart.html"));
-        Assert.assertTrue(driver.getCurrentUrl().contains("cart.html"), "Did not land on cart page");
-
-        // Click "Checkout" button
-        WebElement checkoutButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.className("checkout_button")
-        ));
-        js.executeScript("arguments[0].click();", checkoutButton);
-
-        // Verify navigation to checkout page
-        wait.until(ExpectedConditions.urlContains("checkout-step-one.html"));
-        Assert.assertTrue(driver.getCurrentUrl().contains("checkout-step-one.html"), "Did not navigate to checkout page.");
-
-        // Fill form with all details
-        driver.findElement(By.id("first-name")).sendKeys("John");
-        driver.findElement(By.id("last-name")).sendKeys("Doe");
-        driver.findElement(By.id("postal-code")).sendKeys("12345");
-
-        // Submit form
-        WebElement continueButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.cssSelector("input.btn_primary.cart_button")
-        ));
-        js.executeScript("arguments[0].click();", continueButton);
+        CheckoutStepTwoPage overviewPage = checkoutStepOneWithTwoItems()
+                .fillForm("John", "Doe", "12345")
+                .continueToOverview();
 
         // Verify navigation to checkout step two (overview page)
-        wait.until(ExpectedConditions.urlContains("checkout-step-two.html"));
-        Assert.assertTrue(driver.getCurrentUrl().contains("checkout-step-two.html"), "Did not navigate to checkout step two page.");
+        Assert.assertTrue(overviewPage.currentUrl().contains("checkout-step-two.html"), "Did not navigate to checkout step two page.");
 
-        // Extract item prices
-        java.util.List<WebElement> itemPrices = wait.until(ExpectedConditions.visibilityOfAllElementsLocatedBy(
-                By.cssSelector(".cart_item .inventory_item_price")
-        ));
+        // Read item prices and the displayed totals in one round-trip
+        DomSnapshot summary = overviewPage.summarySnapshot();
+        java.util.List<String> itemPrices = summary.texts("prices");
         Assert.assertEquals(itemPrices.size(), 2, "Expected 2 items in the cart on the checkout overview page.");
 
-        // Calculate sum of item prices
-        double calculatedTotal = 0.0;
-        for (WebElement priceElement : itemPrices) {
-            String priceText = priceElement.getText().replace("$", ""); // Remove the '$' sign
-            double price = Double.parseDouble(priceText);
-            calculatedTotal += price;
-        }
-        System.out.println("Calculated total of item prices: $" + calculatedTotal);
+        // Sum the item prices in cents, so there is no floating-point rounding to tolerate
+        long calculatedTotal = CheckoutMath.sumCents(itemPrices);
+        System.out.println("Calculated total of item prices: " + Money.format(calculatedTotal));
 
         // Extract the displayed "Item total"
-        WebElement subtotalElement = wait.until(ExpectedConditions.visibilityOfElementLocated(
-                By.cssSelector(".summary_subtotal_label")
-        ));
-        String subtotalText = subtotalElement.getText(); // e.g., "Item total: $39.98"
-        String subtotalValue = subtotalText.split("\\$")[1]; // Extract the number after the '$'
-        double displayedTotal = Double.parseDouble(subtotalValue);
-        System.out.println("Displayed item total: $" + displayedTotal);
+        long displayedTotal = Money.parseCents(summary.text("subtotal")); // e.g., "Item total: $39.98"
+        System.out.println("Displayed item total: " + Money.format(displayedTotal));
 
         // Compare calculated total with displayed total
-        Assert.assertEquals(calculatedTotal, displayedTotal, 0.01,
-                "Calculated total does not match the displayed item total. Calculated: $" + calculatedTotal + ", Displayed: $" + displayedTotal);
+        Assert.assertEquals(calculatedTotal, displayedTotal,
+                "Calculated total does not match the displayed item total. Calculated: " + Money.format(calculatedTotal) + ", Displayed: " + Money.format(displayedTotal));
 
         logout();
     }
 
-    @Test(priority = 19)
+    @Test(groups = JourneyStage.COMPLETE)
     public void testCompleteCheckoutAndVerify() {
-        login("standard_user", VALID_PASSWORD);
-        validateInventoryPage();
-
-        JavascriptExecutor js = (JavascriptExecutor) driver;
-
-        // Add first item (Sauce Labs Backpack)
-        WebElement firstCartButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.xpath("//div[@class='inventory_item_label'][contains(., 'Sauce Labs Backpack')]//following::button[contains(text(), 'ADD TO CART')]")
-        ));
-        js.executeScript("arguments[0].click();", firstCartButton);
-
-        // Add second item (Sauce Labs Bike Light)
-        WebElement secondCartButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.xpath("//div[@class='inventory_item_label'][contains(., 'Sauce Labs Bike Light')]//following::button[contains(text(), 'ADD TO CART')]")
-        ));
-        js.executeScript("arguments[0].click();", secondCartButton);
-
-        // Navigate to the cart
-        WebElement cartLink = wait.until(ExpectedConditions.elementToBeClickable(
-                By.className("shopping_cart_link")
-        ));
-        js.executeScript("arguments[0].click();", cartLink);
-
-        // Verify cart page
-        wait.until(ExpectedConditions.urlContains("cart.html"));
-        Assert.assertTrue(driver.getCurrentUrl().contains("cart.html"), "Did not land on cart page");
-
-        // Click "Checkout" button
-        WebElement checkoutButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.className("checkout_button")
-        ));
-        js.executeScript("arguments[0].click();", checkoutButton);
-
-        // Verify navigation to checkout page
-        wait.until(ExpectedConditions.urlContains("checkout-step-one.html"));
-        Assert.assertTrue(driver.getCurrentUrl().contains("checkout-step-one.html"), "Did not navigate to checkout page.");
-
-        // Fill form with all details
-        driver.findElement(By.id("first-name")).sendKeys("John");
-        driver.findElement(By.id("last-name")).sendKeys("Doe");
-        driver.findElement(By.id("postal-code")).sendKeys("12345");
-
-        // Submit form
-        WebElement continueButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.cssSelector("input.btn_primary.cart_button")
-        ));
-        js.executeScript("arguments[0].click();", continueButton);
+        CheckoutStepTwoPage overviewPage = checkoutStepOneWithTwoItems()
+                .fillForm("John", "Doe", "12345")
+                .continueToOverview();
 
         // Verify navigation to checkout step two (overview page)
-        wait.until(ExpectedConditions.urlContains("checkout-step-two.html"));
-        Assert.assertTrue(driver.getCurrentUrl().contains("checkout-step-two.html"), "Did not navigate to checkout step two page.");
+        Assert.assertTrue(overviewPage.currentUrl().contains("checkout-step-two.html"), "Did not navigate to checkout step two page.");
+
+        // Read the payment, shipping and total labels in one round-trip
+        DomSnapshot summary = overviewPage.summarySnapshot();
 
         // Validate Payment Information
-        java.util.List<WebElement> summaryValues = wait.until(ExpectedConditions.visibilityOfAllElementsLocatedBy(
-                By.cssSelector(".summary_value_label")
-        ));
-        Assert.assertEquals(summaryValues.get(0).getText(), "SauceCard #31337", "Payment Information does not match expected value.");
+        java.util.List<String> summaryValues = summary.texts("summaryValues");
+        Assert.assertEquals(summaryValues.get(0), "SauceCard #31337", "Payment Information does not match expected value.");
 
         // Validate Shipping Information
-        Assert.assertEquals(summaryValues.get(1).getText(), "FREE PONY EXPRESS DELIVERY!", "Shipping Information does not match expected value.");
-
-        // Extract and log Item total (subtotal without tax)
-        WebElement subtotalElement = wait.until(ExpectedConditions.visibilityOfElementLocated(
-                By.cssSelector(".summary_subtotal_label")
-        ));
-        String subtotalText = subtotalElement.getText(); // e.g., "Item total: $39.98"
-        double itemTotal = Double.parseDouble(subtotalText.split("\\$")[1]);
-        System.out.println("Item total (without tax): $" + itemTotal);
-
-        // Extract and log Tax
-        WebElement taxElement = wait.until(ExpectedConditions.visibilityOfElementLocated(
-                By.cssSelector(".summary_tax_label")
-        ));
-        String taxText = taxElement.getText(); // e.g., "Tax: $3.20"
-        double tax = Double.parseDouble(taxText.split("\\$")[1]);
-        System.out.println("Tax: $" + tax);
-
-        // Extract and log Total (with tax)
-        WebElement totalElement = wait.until(ExpectedConditions.visibilityOfElementLocated(
-                By.cssSelector(".summary_total_label")
-        ));
-        String totalText = totalElement.getText(); // e.g., "Total: $43.18"
-        double totalWithTax = Double.parseDouble(totalText.split("\\$")[1]);
-        System.out.println("Total (with tax): $" + totalWithTax);
-
-        // Verify that Total = Item total + Tax
-        double calculatedTotalWithTax = itemTotal + tax;
-        System.out.println("Calculated total (item total + tax): $" + calculatedTotalWithTax);
-        Assert.assertEquals(calculatedTotalWithTax, totalWithTax, 0.01,
-                "Calculated total with tax does not match the displayed total. Calculated: $" + calculatedTotalWithTax + ", Displayed: $" + totalWithTax);
+        Assert.assertEquals(summaryValues.get(1), "FREE PONY EXPRESS DELIVERY!", "Shipping Information does not match expected value.");
+
+        // Extract and log Item total (subtotal without tax), Tax and Total (with tax)
+        String subtotalText = summary.text("subtotal"); // e.g., "Item total: $39.98"
+        String taxText = summary.text("tax"); // e.g., "Tax: $3.20"
+        String totalText = summary.text("total"); // e.g., "Total: $43.18"
+        System.out.println(subtotalText + ", " + taxText + ", " + totalText);
+
+        // Verify that the item total matches the item prices, the tax is 8% of it, and Total = Item total + Tax
+        CheckoutMath.verify(summary.texts("prices"), subtotalText, taxText, totalText);
 
         // Click "Finish" button
-        WebElement finishButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.cssSelector("a.btn_action.cart_button")
-        ));
-        js.executeScript("arguments[0].click();", finishButton);
+        CompletePage completePage = overviewPage.finish();
 
         // Verify navigation to order confirmation page
-        wait.until(ExpectedConditions.urlContains("checkout-complete.html"));
-        Assert.assertTrue(driver.getCurrentUrl().contains("checkout-complete.html"), "Did not navigate to order confirmation page.");
+        Assert.assertTrue(completePage.currentUrl().contains("checkout-complete.html"), "Did not navigate to order confirmation page.");
 
         // Verify confirmation message
-        WebElement confirmationMessage = wait.until(ExpectedConditions.visibilityOfElementLocated(
-                By.cssSelector("h2.complete-header")
-        ));
-        Assert.assertEquals(confirmationMessage.getText(), "THANK YOU FOR YOUR ORDER", "Order confirmation message not found.");
+        Assert.assertEquals(completePage.headerText(), "THANK YOU FOR YOUR ORDER", "Order confirmation message not found.");
 
         logout();
     }
-}
\ No newline at end of file
+}
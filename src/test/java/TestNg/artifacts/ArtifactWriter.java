@@ -0,0 +1,162 @@
+package TestNg.artifacts;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes {@link FailureArtifacts} on one background thread, one directory per failure under
+ * {@code artifacts.dir} (default {@code target/failure-artifacts}): {@code screenshot.png},
+ * {@code page.html.gz}, {@code console.log} and {@code failure.txt}.
+ *
+ * <p>{@link #submit} never blocks: when {@code artifacts.queue} captures are already waiting, the new one
+ * is dropped and counted. After every write the oldest directories are deleted until the total is below
+ * {@code artifacts.maxMb}.
+ */
+public final class ArtifactWriter {
+
+    public static final String DIR_PROPERTY = "artifacts.dir";
+    public static final String MAX_MB_PROPERTY = "artifacts.maxMb";
+    public static final String QUEUE_PROPERTY = "artifacts.queue";
+
+    private static final File DIR = new File(System.getProperty(DIR_PROPERTY, "target/failure-artifacts"));
+    private static final long MAX_BYTES = Long.getLong(MAX_MB_PROPERTY, 200) * 1024 * 1024;
+    private static final DateTimeFormatter STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneId.systemDefault());
+
+    private static final AtomicInteger WRITTEN = new AtomicInteger();
+    private static final AtomicInteger DROPPED = new AtomicInteger();
+    private static final AtomicInteger ROTATED = new AtomicInteger();
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    // Captures accepted but not yet written; drain() waits on this monitor for it to reach zero
+    private static final Object IDLE = new Object();
+    private static int pending;
+
+    private static final ThreadPoolExecutor WRITER = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Integer.getInteger(QUEUE_PROPERTY, 16)),
+            runnable -> {
+                Thread thread = new Thread(runnable, "failure-artifact-writer");
+                thread.setDaemon(true);
+                return thread;
+            },
+            (runnable, executor) -> {
+                DROPPED.incrementAndGet();
+                done();
+            });
+
+    private ArtifactWriter() {
+    }
+
+    public static void submit(FailureArtifacts artifacts) {
+        synchronized (IDLE) {
+            pending++;
+        }
+        WRITER.execute(() -> {
+            try {
+                write(artifacts);
+                WRITTEN.incrementAndGet();
+                rotate();
+            } catch (IOException | RuntimeException e) {
+                System.out.println("Could not write failure artifacts of " + artifacts.testName() + ": " + e.getMessage());
+            } finally {
+                done();
+            }
+        });
+    }
+
+    /**
+     * Waits for the queued captures to be written. The writer keeps running, so a later suite in the same
+     * JVM can still submit. Only for the end of a suite.
+     */
+    public static void drain(long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (IDLE) {
+            try {
+                while (pending > 0) {
+                    long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                    if (remaining <= 0) {
+                        System.out.println("Failure artifacts still being written after " + unit.toSeconds(timeout) + " s, giving up");
+                        return;
+                    }
+                    IDLE.wait(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static void done() {
+        synchronized (IDLE) {
+            pending--;
+            IDLE.notifyAll();
+        }
+    }
+
+    public static String summary() {
+        return String.format("Failure artifacts: %d written to %s, %d dropped (queue full), %d old failure(s) rotated out",
+                WRITTEN.get(), DIR.getAbsolutePath(), DROPPED.get(), ROTATED.get());
+    }
+
+    private static void write(FailureArtifacts artifacts) throws IOException {
+        // The timestamp first keeps the directories in age order for the rotation
+        File dir = new File(DIR, STAMP.format(artifacts.failedAt()) + "-" + SEQUENCE.incrementAndGet() + "-" + safeName(artifacts.testName()));
+        FileUtils.forceMkdir(dir);
+        if (artifacts.screenshotBase64() != null) {
+            FileUtils.writeByteArrayToFile(new File(dir, "screenshot.png"), Base64.getMimeDecoder().decode(artifacts.screenshotBase64()));
+        }
+        if (artifacts.pageSource() != null) {
+            try (OutputStream out = new GZIPOutputStream(FileUtils.openOutputStream(new File(dir, "page.html.gz")))) {
+                IOUtils.write(artifacts.pageSource(), out, StandardCharsets.UTF_8);
+            }
+        }
+        if (!artifacts.consoleLog().isEmpty()) {
+            FileUtils.writeLines(new File(dir, "console.log"), StandardCharsets.UTF_8.name(), artifacts.consoleLog());
+        }
+        FileUtils.writeStringToFile(new File(dir, "failure.txt"),
+                artifacts.testName() + System.lineSeparator()
+                        + "Failed at " + artifacts.failedAt() + " on " + artifacts.url() + System.lineSeparator()
+                        + System.lineSeparator() + artifacts.failure(),
+                StandardCharsets.UTF_8);
+    }
+
+    private static void rotate() throws IOException {
+        File[] failures = DIR.listFiles(File::isDirectory);
+        if (failures == null) {
+            return;
+        }
+        Arrays.sort(failures, Comparator.comparing(File::getName));
+        long total = 0;
+        long[] sizes = new long[failures.length];
+        for (int i = 0; i < failures.length; i++) {
+            sizes[i] = FileUtils.sizeOfDirectory(failures[i]);
+            total += sizes[i];
+        }
+        // Always keep the newest failure, however large
+        for (int i = 0; i < failures.length - 1 && total > MAX_BYTES; i++) {
+            FileUtils.deleteDirectory(failures[i]);
+            total -= sizes[i];
+            ROTATED.incrementAndGet();
+        }
+    }
+
+    private static String safeName(String testName) {
+        String name = testName.replaceAll("[^A-Za-z0-9._-]+", "_");
+        return name.length() > 80 ? name.substring(0, 80) : name;
+    }
+}
@@ -0,0 +1,116 @@
+package TestNg.artifacts;
+
+import TestNg.waits.BrowserEvents;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.testng.ITestResult;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * What the browser showed when a test failed, captured into memory only. The screenshot stays in the
+ * base64 form the driver returns it in; decoding, compressing and writing are left to {@link ArtifactWriter}.
+ */
+public final class FailureArtifacts {
+
+    private final String testName;
+    private final Instant failedAt;
+    private final String url;
+    private final String screenshotBase64;
+    private final String pageSource;
+    private final List<String> consoleLog;
+    private final String failure;
+
+    private FailureArtifacts(String testName, Instant failedAt, String url, String screenshotBase64,
+                             String pageSource, List<String> consoleLog, String failure) {
+        this.testName = testName;
+        this.failedAt = failedAt;
+        this.url = url;
+        this.screenshotBase64 = screenshotBase64;
+        this.pageSource = pageSource;
+        this.consoleLog = consoleLog;
+        this.failure = failure;
+    }
+
+    /**
+     * Reads the current page of {@code driver}. Whatever the browser cannot provide (HtmlUnit has no
+     * screenshots, a crashed browser has nothing) is left out rather than failing the capture.
+     */
+    public static FailureArtifacts capture(WebDriver driver, ITestResult result) {
+        String name = result.getTestClass().getRealClass().getSimpleName() + "." + result.getName();
+        if (result.getParameters().length > 0) {
+            name += Arrays.toString(result.getParameters());
+        }
+        String url = null;
+        String screenshot = null;
+        String source = null;
+        List<String> console = List.of();
+        if (driver != null) {
+            try {
+                url = driver.getCurrentUrl();
+            } catch (WebDriverException ignored) {
+                // the browser is gone; the stack trace is still worth keeping
+            }
+            if (driver instanceof TakesScreenshot) {
+                try {
+                    screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
+                } catch (WebDriverException | UnsupportedOperationException ignored) {
+                    // HtmlUnit implements the interface but cannot render
+                }
+            }
+            try {
+                source = driver.getPageSource();
+            } catch (WebDriverException ignored) {
+                // no page to save
+            }
+            BrowserEvents events = BrowserEvents.of(driver);
+            if (events != null) {
+                console = events.consoleLog();
+            }
+        }
+        return new FailureArtifacts(name, Instant.now(), url, screenshot, source, console, stackTrace(result.getThrowable()));
+    }
+
+    private static String stackTrace(Throwable throwable) {
+        if (throwable == null) {
+            return "";
+        }
+        StringWriter trace = new StringWriter();
+        throwable.printStackTrace(new PrintWriter(trace));
+        return trace.toString();
+    }
+
+    public String testName() {
+        return testName;
+    }
+
+    public Instant failedAt() {
+        return failedAt;
+    }
+
+    public String url() {
+        return url;
+    }
+
+    public String screenshotBase64() {
+        return screenshotBase64;
+    }
+
+    public String pageSource() {
+        return pageSource;
+    }
+
+    public List<String> consoleLog() {
+        return consoleLog;
+    }
+
+    public String failure() {
+        return failure;
+    }
+}
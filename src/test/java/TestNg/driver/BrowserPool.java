@@ -0,0 +1,238 @@
+package TestNg.driver;
+
+import TestNg.metrics.LatencyRecorder;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Chrome browsers launched ahead of time, each already parked on the login page. {@link #prewarm} starts
+ * the launches in the background; {@link DriverPool} borrows from here before launching a browser on the
+ * test thread, and calls {@link #replenish} whenever it quits one, so the pool tops itself up while tests
+ * run. If no browser is idle but one is still launching, a borrow waits for it instead of starting a
+ * second launch. Threads that only run a few tests, such as the data provider pool, {@link #giveBack}
+ * their browser instead of keeping it warm.
+ */
+public final class BrowserPool {
+
+    public static final String SIZE_PROPERTY = "pool.size";
+
+    private static final long MAX_BORROW_WAIT_SECONDS = 60;
+
+    private static final BlockingQueue<WebDriver> IDLE = new LinkedBlockingQueue<>();
+    private static final AtomicInteger LAUNCHING = new AtomicInteger();
+    private static final AtomicLong LAUNCHED = new AtomicLong();
+    private static final AtomicLong BORROWS = new AtomicLong();
+    private static final AtomicLong RETURNS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+    private static final AtomicLong BORROW_WAIT_NANOS = new AtomicLong();
+
+    private static volatile ExecutorService launcher;
+    private static volatile String parkingUrl;
+    private static volatile int targetSize;
+
+    private BrowserPool() {
+    }
+
+    /**
+     * Starts launching {@code size} browsers that open {@code url} and wait to be borrowed. Returns
+     * immediately; a size of 0 disables the pool.
+     */
+    public static synchronized void prewarm(int size, String url) {
+        if (size <= 0 || launcher != null) {
+            return;
+        }
+        targetSize = size;
+        parkingUrl = url;
+        launcher = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "browser-prewarm");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < size; i++) {
+            launch();
+        }
+    }
+
+    /**
+     * A parked browser, or null when the pool is disabled or has nothing idle or launching; the caller
+     * then launches one itself.
+     */
+    static WebDriver borrow() {
+        if (launcher == null) {
+            return null;
+        }
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(MAX_BORROW_WAIT_SECONDS);
+        try {
+            while (true) {
+                WebDriver driver = IDLE.poll();
+                // Short slices, so a launch that fails does not leave the borrower waiting for nothing
+                while (driver == null && LAUNCHING.get() > 0 && System.nanoTime() < deadline) {
+                    driver = IDLE.poll(50, TimeUnit.MILLISECONDS);
+                }
+                if (driver == null) {
+                    MISSES.incrementAndGet();
+                    return null;
+                }
+                if (isAlive(driver)) {
+                    BORROWS.incrementAndGet();
+                    return driver;
+                }
+                quietlyQuit(driver);
+                replenish();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            long waited = System.nanoTime() - start;
+            BORROW_WAIT_NANOS.addAndGet(waited);
+            LatencyRecorder.record("pool.borrowWait", waited);
+        }
+    }
+
+    /**
+     * Parks a browser a thread no longer needs, after its session was reset, so any thread can borrow it.
+     * False when the pool is disabled or the browser could not be parked; the caller keeps or quits it.
+     */
+    static boolean giveBack(WebDriver driver) {
+        ExecutorService executor = launcher;
+        if (executor == null) {
+            return false;
+        }
+        try {
+            ResourceBlocker.apply(driver, true);
+            driver.get(parkingUrl);
+        } catch (WebDriverException e) {
+            return false;
+        }
+        synchronized (BrowserPool.class) {
+            if (executor.isShutdown()) {
+                return false;
+            }
+            IDLE.add(driver);
+        }
+        RETURNS.incrementAndGet();
+        return true;
+    }
+
+    /** Launches a replacement for a browser that was quit, unless the pool is already full. */
+    static void replenish() {
+        if (launcher != null && IDLE.size() + LAUNCHING.get() < targetSize) {
+            launch();
+        }
+    }
+
+    public static int idle() {
+        return IDLE.size();
+    }
+
+    public static int launching() {
+        return LAUNCHING.get();
+    }
+
+    public static long misses() {
+        return MISSES.get();
+    }
+
+    public static long averageBorrowWaitMillis() {
+        long borrows = BORROWS.get() + MISSES.get();
+        return borrows == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(BORROW_WAIT_NANOS.get() / borrows);
+    }
+
+    public static String summary() {
+        return String.format("Browser pool: %d launched in the background, %d borrowed (avg wait %d ms), %d given back, %d cold start(s) on a test thread, %d idle at the end",
+                LAUNCHED.get(), BORROWS.get(), averageBorrowWaitMillis(), RETURNS.get(), MISSES.get(), IDLE.size());
+    }
+
+    static void shutdown() {
+        ExecutorService executor;
+        synchronized (BrowserPool.class) {
+            executor = launcher;
+            if (executor == null) {
+                return;
+            }
+            launcher = null;
+            executor.shutdown();
+        }
+        // A launch still in flight parks its browser when it finishes, so let it finish before draining.
+        // One that outlives the wait sees the pool shut down and quits its browser itself.
+        try {
+            if (!executor.awaitTermination(MAX_BORROW_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                System.out.println("Browser launches still running after " + MAX_BORROW_WAIT_SECONDS + " s, not waiting for them");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        WebDriver driver;
+        while ((driver = IDLE.poll()) != null) {
+            quietlyQuit(driver);
+        }
+        System.out.println(summary());
+    }
+
+    private static void launch() {
+        ExecutorService executor = launcher;
+        if (executor == null || executor.isShutdown()) {
+            return;
+        }
+        LAUNCHING.incrementAndGet();
+        try {
+            executor.execute(() -> launchAndPark(executor));
+        } catch (RejectedExecutionException e) {
+            // shut down between the check and the submit
+            LAUNCHING.decrementAndGet();
+        }
+    }
+
+    private static void launchAndPark(ExecutorService executor) {
+        WebDriver driver = null;
+        try {
+            long start = System.nanoTime();
+            driver = DriverFactory.create(DriverType.CHROME);
+            SessionStats.recordColdStart(System.nanoTime() - start);
+            ResourceBlocker.apply(driver, true);
+            driver.get(parkingUrl);
+            LAUNCHED.incrementAndGet();
+            synchronized (BrowserPool.class) {
+                if (!executor.isShutdown()) {
+                    IDLE.add(driver);
+                    driver = null;
+                }
+            }
+        } catch (WebDriverException e) {
+            System.out.println("Could not pre-warm a browser: " + e.getMessage());
+        } finally {
+            if (driver != null) {
+                quietlyQuit(driver);
+            }
+            LAUNCHING.decrementAndGet();
+        }
+    }
+
+    private static boolean isAlive(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    private static void quietlyQuit(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (WebDriverException ignored) {
+            // already gone
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package TestNg.driver;
+
+import TestNg.waits.BrowserEvents;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Named Chrome launch configurations, selected with {@code -Dbrowser.profile=full|headless|light}.
+ */
+public enum BrowserProfile {
+
+    /** Headed Chrome, maximized: what the suite always used. */
+    FULL(false, null, false),
+
+    /** Headless Chrome at a typical laptop resolution. */
+    HEADLESS(true, "1366,768", false),
+
+    /**
+     * Headless Chrome with a small viewport, no extensions, no GPU, and images and web fonts blocked
+     * through CDP (see {@link ResourceBlocker}) for every test not annotated with {@link KeepAssets}.
+     */
+    LIGHT(true, "1024,768", true);
+
+    public static final String PROPERTY = "browser.profile";
+
+    static final List<String> ASSET_URL_PATTERNS = List.of(
+            "*.png", "*.jpg", "*.jpeg", "*.gif", "*.svg", "*.webp", "*.ico",
+            "*.woff", "*.woff2", "*.ttf", "*.otf");
+
+    private final boolean headless;
+    private final String windowSize;
+    private final boolean blocksAssets;
+
+    BrowserProfile(boolean headless, String windowSize, boolean blocksAssets) {
+        this.headless = headless;
+        this.windowSize = windowSize;
+        this.blocksAssets = blocksAssets;
+    }
+
+    public static BrowserProfile current() {
+        return valueOf(System.getProperty(PROPERTY, "full").trim().toUpperCase(Locale.ROOT));
+    }
+
+    public ChromeOptions options() {
+        ChromeOptions options = new ChromeOptions();
+        if (headless) {
+            options.addArguments("--headless=new");
+        }
+        if (windowSize != null) {
+            options.addArguments("--window-size=" + windowSize);
+        }
+        if (this == LIGHT) {
+            options.addArguments(
+                    "--disable-gpu",
+                    "--disable-extensions",
+                    "--disable-remote-fonts",
+                    "--disable-dev-shm-usage",
+                    "--no-first-run",
+                    "--mute-audio");
+        }
+        if (BrowserEvents.enabled()) {
+            // Opens the BiDi WebSocket next to the classic session, for the event-driven waits
+            options.setCapability("webSocketUrl", true);
+        }
+        return options;
+    }
+
+    public boolean maximize() {
+        return windowSize == null;
+    }
+
+    public boolean blocksAssets() {
+        return blocksAssets;
+    }
+}
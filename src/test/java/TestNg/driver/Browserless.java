@@ -0,0 +1,15 @@
+package TestNg.driver;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a test whose assertions do not need a rendered page (text, counts, arithmetic), so it can run on
+ * the in-process HtmlUnit driver instead of Chrome. {@code -Dbrowserless=false} runs it on Chrome anyway.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Browserless {
+}
@@ -0,0 +1,160 @@
+package TestNg.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.AddHasCasting;
+import org.openqa.selenium.chrome.AddHasCdp;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+import org.openqa.selenium.remote.CommandInfo;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.service.DriverFinder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One chromedriver process shared by every Chrome session of the run, instead of one per browser. It
+ * is started by the first session, which during a suite is the browser pool pre-warming in
+ * {@code @BeforeSuite}. Before each new session the service's {@code /status} endpoint is checked, and a
+ * dead or unresponsive chromedriver is restarted.
+ *
+ * <p>{@code new ChromeDriver(service, options)} cannot share a service: its command executor stops the
+ * service when the session quits. Sessions here talk to the service through a plain HTTP executor, so
+ * quitting one only ends that session. {@code -Dchromedriver.shared=false} goes back to one chromedriver
+ * per browser.
+ */
+public final class ChromeService {
+
+    public static final String SHARED_PROPERTY = "chromedriver.shared";
+
+    private static final Duration STATUS_TIMEOUT = Duration.ofSeconds(2);
+    private static final HttpClient STATUS_CLIENT = HttpClient.newBuilder().connectTimeout(STATUS_TIMEOUT).build();
+    private static final Map<String, CommandInfo> CHROME_COMMANDS = chromeCommands();
+    private static final AtomicLong STARTS = new AtomicLong();
+
+    private static ChromeDriverService service;
+    private static String browserPath;
+    private static boolean shutdownHookAdded;
+
+    private ChromeService() {
+    }
+
+    public static boolean enabled() {
+        return Boolean.parseBoolean(System.getProperty(SHARED_PROPERTY, "true"));
+    }
+
+    /** Opens a Chrome session on the shared chromedriver, starting or restarting it first if needed. */
+    public static WebDriver newDriver(ChromeOptions options) {
+        URL url;
+        String binary;
+        synchronized (ChromeService.class) {
+            url = ensureRunning(options);
+            binary = browserPath;
+        }
+        if (binary != null) {
+            options.setBinary(binary);
+        }
+        return new SharedServiceChromeDriver(url, options);
+    }
+
+    public static synchronized void stop() {
+        if (service != null) {
+            try {
+                service.stop();
+            } catch (WebDriverException e) {
+                System.out.println("Could not stop chromedriver: " + e.getMessage());
+            }
+            service = null;
+        }
+    }
+
+    public static long starts() {
+        return STARTS.get();
+    }
+
+    private static synchronized URL ensureRunning(ChromeOptions options) {
+        if (service != null && isHealthy(service)) {
+            return service.getUrl();
+        }
+        if (service != null) {
+            System.out.println("Shared chromedriver at " + service.getUrl() + " is not responding, restarting it");
+            stop();
+        }
+        ChromeDriverService started = new ChromeDriverService.Builder().usingAnyFreePort().build();
+        // Same lookup ChromeDriver does: Selenium Manager resolves the driver and, if needed, the browser
+        DriverFinder finder = new DriverFinder(started, options);
+        started.setExecutable(finder.getDriverPath());
+        browserPath = finder.hasBrowserPath() ? finder.getBrowserPath() : null;
+        try {
+            started.start();
+        } catch (IOException e) {
+            throw new WebDriverException("Could not start chromedriver", e);
+        }
+        service = started;
+        STARTS.incrementAndGet();
+        if (!shutdownHookAdded) {
+            Runtime.getRuntime().addShutdownHook(new Thread(ChromeService::stop, "chromedriver-stop"));
+            shutdownHookAdded = true;
+        }
+        return service.getUrl();
+    }
+
+    private static boolean isHealthy(ChromeDriverService candidate) {
+        if (!candidate.isRunning()) {
+            return false;
+        }
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(candidate.getUrl() + "/status"))
+                    .timeout(STATUS_TIMEOUT)
+                    .GET()
+                    .build();
+            HttpResponse<String> response = STATUS_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+            return response.statusCode() == 200 && isReady(response.body());
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // {"value": {"ready": true, "message": "..."}}; a chromedriver that is up but not ready says false
+    private static boolean isReady(String status) {
+        try {
+            Map<String, Object> body = new Json().toType(status, Json.MAP_TYPE);
+            Object value = body == null ? null : body.get("value");
+            return value instanceof Map && Boolean.TRUE.equals(((Map<?, ?>) value).get("ready"));
+        } catch (JsonException e) {
+            return false;
+        }
+    }
+
+    private static Map<String, CommandInfo> chromeCommands() {
+        Map<String, CommandInfo> commands = new HashMap<>();
+        commands.putAll(new AddHasCdp().getAdditionalCommands());
+        commands.putAll(new AddHasCasting().getAdditionalCommands());
+        return Map.copyOf(commands);
+    }
+
+    /** A ChromeDriver equivalent (CDP, casting, permissions...) whose quit leaves the service running. */
+    private static final class SharedServiceChromeDriver extends ChromiumDriver {
+
+        private SharedServiceChromeDriver(URL serviceUrl, ChromeOptions options) {
+            super(new HttpCommandExecutor(CHROME_COMMANDS, serviceUrl), options, ChromeOptions.CAPABILITY);
+            casting = new AddHasCasting().getImplementation(getCapabilities(), getExecuteMethod());
+            cdp = new AddHasCdp().getImplementation(getCapabilities(), getExecuteMethod());
+        }
+    }
+}
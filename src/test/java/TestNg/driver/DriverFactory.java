@@ -0,0 +1,44 @@
+package TestNg.driver;
+
+import TestNg.metrics.TimingDriverListener;
+import org.htmlunit.BrowserVersion;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+
+public final class DriverFactory {
+
+    public static final String TIMING_PROPERTY = "timing.enabled";
+
+    private DriverFactory() {
+    }
+
+    public static WebDriver create() {
+        return create(DriverType.CHROME);
+    }
+
+    public static WebDriver create(DriverType type) {
+        WebDriver driver = type == DriverType.HTMLUNIT ? createHtmlUnit() : createChrome();
+        if (Boolean.parseBoolean(System.getProperty(TIMING_PROPERTY, "true"))) {
+            driver = new EventFiringDecorator<>(new TimingDriverListener()).decorate(driver);
+        }
+        return driver;
+    }
+
+    private static WebDriver createChrome() {
+        BrowserProfile profile = BrowserProfile.current();
+        ChromeOptions options = profile.options();
+        WebDriver driver = ChromeService.enabled() ? ChromeService.newDriver(options) : new ChromeDriver(options);
+        if (profile.maximize()) {
+            driver.manage().window().maximize();
+        }
+        return driver;
+    }
+
+    private static WebDriver createHtmlUnit() {
+        // Emulates Chrome's JavaScript and DOM APIs in-process; the second argument enables JavaScript
+        return new HtmlUnitDriver(BrowserVersion.CHROME, true);
+    }
+}
@@ -0,0 +1,177 @@
+package TestNg.driver;
+
+import TestNg.waits.Waits;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands out one WebDriver per TestNG worker thread so test methods can run with parallel="methods"
+ * without sharing a browser. Every driver ever leased is tracked so the suite can clean up leftovers.
+ *
+ * <p>With {@code session.reuse} enabled (the default) a browser stays warm between tests on the same
+ * thread and is only reset: cookies and web storage are cleared, and the next {@code setup()} navigates
+ * back to the login page. It is hard-recycled after {@code session.maxReuse} tests, after a failed test,
+ * or when the reset itself fails.
+ *
+ * <p>A thread keeps at most one warm driver per {@link DriverType}, so a Chrome test following a
+ * {@link Browserless} test on the same thread does not relaunch Chrome.
+ */
+public final class DriverPool {
+
+    public static final String REUSE_PROPERTY = "session.reuse";
+    public static final String MAX_REUSE_PROPERTY = "session.maxReuse";
+
+    private static final boolean REUSE = Boolean.parseBoolean(System.getProperty(REUSE_PROPERTY, "true"));
+    private static final int MAX_REUSE = Integer.getInteger(MAX_REUSE_PROPERTY, 20);
+
+    private static final ThreadLocal<Map<DriverType, Lease>> WARM = ThreadLocal.withInitial(() -> new EnumMap<>(DriverType.class));
+    private static final ThreadLocal<Lease> LEASE = new ThreadLocal<>();
+    private static final Set<WebDriver> LEASED = ConcurrentHashMap.newKeySet();
+
+    private DriverPool() {
+    }
+
+    public static WebDriver acquire(DriverType type) {
+        Lease lease = WARM.get().get(type);
+        if (lease != null && !LEASED.contains(lease.driver)) {
+            // shutdown() quit it, but could only reach its own thread's warm leases
+            WARM.get().remove(type);
+            lease = null;
+        }
+        if (lease == null) {
+            WebDriver driver = type == DriverType.CHROME ? BrowserPool.borrow() : null;
+            boolean parked = driver != null;
+            if (driver == null) {
+                long start = System.nanoTime();
+                driver = DriverFactory.create(type);
+                SessionStats.recordColdStart(System.nanoTime() - start);
+            }
+            lease = new Lease(driver, type);
+            lease.parked = parked;
+            WARM.get().put(type, lease);
+            LEASED.add(driver);
+        }
+        LEASE.set(lease);
+        lease.uses++;
+        return lease.driver;
+    }
+
+    /**
+     * True once for a browser that came from {@link BrowserPool} and has not served a test yet: it is
+     * still on the login page it was parked on, with assets blocked.
+     */
+    public static boolean takeParked() {
+        Lease lease = current();
+        boolean parked = lease.parked;
+        lease.parked = false;
+        return parked;
+    }
+
+    public static WebDriver driver() {
+        return current().driver;
+    }
+
+    /** The current thread's leased driver, or null outside a test. */
+    public static WebDriver leasedDriver() {
+        Lease lease = LEASE.get();
+        return lease == null ? null : lease.driver;
+    }
+
+    public static WebDriverWait driverWait() {
+        return current().driverWait;
+    }
+
+    /**
+     * Ends the current test's use of the thread's browser. The browser is kept for the next test when
+     * recycling is enabled, the test passed and the reuse budget is not exhausted; otherwise it is quit.
+     * With {@code giveBack} a kept Chrome goes back to {@link BrowserPool} rather than staying warm on a
+     * thread that may not run another test.
+     */
+    public static void release(boolean testFailed, boolean giveBack) {
+        Lease lease = LEASE.get();
+        if (lease == null) {
+            return;
+        }
+        LEASE.remove();
+        if (REUSE && !testFailed && lease.uses < MAX_REUSE && reset(lease.driver)) {
+            if (giveBack && lease.type == DriverType.CHROME && BrowserPool.giveBack(lease.driver)) {
+                WARM.get().values().remove(lease);
+                LEASED.remove(lease.driver);
+            }
+            return;
+        }
+        WARM.get().values().remove(lease);
+        quit(lease.driver);
+        if (lease.type == DriverType.CHROME) {
+            BrowserPool.replenish();
+        }
+    }
+
+    public static void shutdown() {
+        for (WebDriver driver : LEASED) {
+            quit(driver);
+        }
+        LEASED.clear();
+        WARM.remove();
+        LEASE.remove();
+        BrowserPool.shutdown();
+        ChromeService.stop();
+        System.out.println(SessionStats.summary());
+    }
+
+    private static Lease current() {
+        Lease lease = LEASE.get();
+        if (lease == null) {
+            throw new IllegalStateException("No WebDriver leased on thread " + Thread.currentThread().getName());
+        }
+        return lease;
+    }
+
+    private static boolean reset(WebDriver driver) {
+        long start = System.nanoTime();
+        try {
+            driver.manage().deleteAllCookies();
+            // SauceDemo keeps the cart in localStorage, which is scoped to the page's origin
+            ((JavascriptExecutor) driver).executeScript("window.localStorage.clear(); window.sessionStorage.clear();");
+            SessionStats.recordReset(System.nanoTime() - start);
+            return true;
+        } catch (WebDriverException e) {
+            System.out.println("Session reset failed, recycling browser: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static void quit(WebDriver driver) {
+        if (!LEASED.remove(driver)) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            driver.quit();
+        } catch (WebDriverException e) {
+            System.out.println("Failed to quit driver: " + e.getMessage());
+        }
+        SessionStats.recordQuit(System.nanoTime() - start);
+    }
+
+    private static final class Lease {
+        private final WebDriver driver;
+        private final WebDriverWait driverWait;
+        private final DriverType type;
+        private int uses;
+        private boolean parked;
+
+        private Lease(WebDriver driver, DriverType type) {
+            this.driver = driver;
+            this.driverWait = Waits.forDriver(driver);
+            this.type = type;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package TestNg.driver;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+
+/**
+ * The kinds of WebDriver the suite can run a test on.
+ */
+public enum DriverType {
+    /** Chrome, configured by {@link BrowserProfile}. */
+    CHROME,
+    /** HtmlUnit with JavaScript enabled: no rendering, no screenshots, no DevTools. */
+    HTMLUNIT;
+
+    public static final String BROWSERLESS_PROPERTY = "browserless";
+    public static final String DRIVER_PROPERTY = "driver";
+
+    public static DriverType forMethod(Method method) {
+        DriverType forced = forced();
+        if (forced != null) {
+            return forced;
+        }
+        boolean browserless = Boolean.parseBoolean(System.getProperty(BROWSERLESS_PROPERTY, "true"));
+        return browserless && method.isAnnotationPresent(Browserless.class) ? HTMLUNIT : CHROME;
+    }
+
+    /** The type {@code -Ddriver=chrome|htmlunit} runs every test on, or null for per-test selection. */
+    public static DriverType forced() {
+        String driver = System.getProperty(DRIVER_PROPERTY, "auto").trim();
+        return driver.equalsIgnoreCase("auto") ? null : valueOf(driver.toUpperCase(Locale.ROOT));
+    }
+}
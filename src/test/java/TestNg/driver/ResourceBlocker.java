@@ -0,0 +1,39 @@
+package TestNg.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Blocks requests by URL pattern through the Chrome DevTools Protocol. The block list is set per test,
+ * so a recycled browser can serve a test that needs images right after one that does not.
+ */
+public final class ResourceBlocker {
+
+    private ResourceBlocker() {
+    }
+
+    public static void apply(WebDriver driver, boolean block) {
+        if (!BrowserProfile.current().blocksAssets()) {
+            return;
+        }
+        setBlockedUrls(driver, block ? BrowserProfile.ASSET_URL_PATTERNS : Collections.emptyList());
+    }
+
+    private static void setBlockedUrls(WebDriver driver, List<String> patterns) {
+        if (!(driver instanceof HasCdp)) {
+            return;
+        }
+        HasCdp cdp = (HasCdp) driver;
+        try {
+            cdp.executeCdpCommand("Network.enable", Map.of());
+            cdp.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", patterns));
+        } catch (WebDriverException e) {
+            System.out.println("Could not update blocked URLs: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package TestNg.driver;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts how often a browser was launched versus reset in place, so each run can report
+ * how much wall-clock time session recycling saved.
+ */
+public final class SessionStats {
+
+    private static final AtomicLong COLD_STARTS = new AtomicLong();
+    private static final AtomicLong COLD_START_NANOS = new AtomicLong();
+    private static final AtomicLong QUITS = new AtomicLong();
+    private static final AtomicLong QUIT_NANOS = new AtomicLong();
+    private static final AtomicLong RESETS = new AtomicLong();
+    private static final AtomicLong RESET_NANOS = new AtomicLong();
+
+    private SessionStats() {
+    }
+
+    static void recordColdStart(long nanos) {
+        COLD_STARTS.incrementAndGet();
+        COLD_START_NANOS.addAndGet(nanos);
+    }
+
+    static void recordQuit(long nanos) {
+        QUITS.incrementAndGet();
+        QUIT_NANOS.addAndGet(nanos);
+    }
+
+    static void recordReset(long nanos) {
+        RESETS.incrementAndGet();
+        RESET_NANOS.addAndGet(nanos);
+    }
+
+    public static long coldStarts() {
+        return COLD_STARTS.get();
+    }
+
+    public static long resets() {
+        return RESETS.get();
+    }
+
+    /**
+     * Estimated time saved by resetting instead of quitting and relaunching: every reset avoided one
+     * average quit plus one average cold start, minus what the reset itself cost.
+     */
+    public static long savedMillis() {
+        long resets = RESETS.get();
+        if (resets == 0) {
+            return 0;
+        }
+        long avgColdStart = average(COLD_START_NANOS.get(), COLD_STARTS.get());
+        long avgQuit = average(QUIT_NANOS.get(), QUITS.get());
+        long saved = resets * (avgColdStart + avgQuit) - RESET_NANOS.get();
+        return TimeUnit.NANOSECONDS.toMillis(Math.max(saved, 0));
+    }
+
+    public static String summary() {
+        return String.format("Browser sessions: %d cold start(s) (avg %d ms), %d reset(s) (avg %d ms), ~%d ms saved by recycling, %d chromedriver start(s)",
+                COLD_STARTS.get(),
+                TimeUnit.NANOSECONDS.toMillis(average(COLD_START_NANOS.get(), COLD_STARTS.get())),
+                RESETS.get(),
+                TimeUnit.NANOSECONDS.toMillis(average(RESET_NANOS.get(), RESETS.get())),
+                savedMillis(),
+                ChromeService.starts());
+    }
+
+    private static long average(long total, long count) {
+        return count == 0 ? 0 : total / count;
+    }
+}
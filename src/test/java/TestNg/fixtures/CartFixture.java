@@ -0,0 +1,101 @@
+package TestNg.fixtures;
+
+import TestNg.pages.CartPage;
+import TestNg.pages.CheckoutStepOnePage;
+import TestNg.pages.InventoryPage;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds SauceDemo state directly instead of clicking through the UI: injects the session cookie, seeds
+ * the cart in localStorage ({@code cart-contents}, a JSON array of product ids) and deep-links to the
+ * requested page. Must be used while the browser is on the SauceDemo origin, e.g. right after setup().
+ *
+ * <pre>
+ * CheckoutStepOnePage checkout = new CartFixture(driver, wait, baseUrl)
+ *         .as("standard_user")
+ *         .withCart("Sauce Labs Backpack", "Sauce Labs Bike Light")
+ *         .openCheckoutStepOne();
+ * </pre>
+ */
+public class CartFixture {
+
+    public static final String SESSION_COOKIE = "session-username";
+    public static final String CART_KEY = "cart-contents";
+
+    // Product ids as used by SauceDemo v1 in inventory-item.html?id= and the cart
+    private static final Map<String, Integer> PRODUCT_IDS = Map.of(
+            "Sauce Labs Backpack", 4,
+            "Sauce Labs Bike Light", 0,
+            "Sauce Labs Bolt T-Shirt", 1,
+            "Sauce Labs Fleece Jacket", 5,
+            "Sauce Labs Onesie", 2,
+            "Test.allTheThings() T-Shirt (Red)", 3);
+
+    private final WebDriver driver;
+    private final WebDriverWait wait;
+    private final String baseUrl;
+    private String username = "standard_user";
+    private List<Integer> cart;
+
+    public CartFixture(WebDriver driver, WebDriverWait wait, String baseUrl) {
+        this.driver = driver;
+        this.wait = wait;
+        this.baseUrl = baseUrl;
+    }
+
+    public static int productId(String productName) {
+        Integer id = PRODUCT_IDS.get(productName);
+        if (id == null) {
+            throw new IllegalArgumentException("Unknown product '" + productName + "', expected one of " + PRODUCT_IDS.keySet());
+        }
+        return id;
+    }
+
+    public CartFixture as(String username) {
+        this.username = username;
+        return this;
+    }
+
+    public CartFixture withCart(String... productNames) {
+        List<Integer> ids = new ArrayList<>();
+        for (String productName : productNames) {
+            ids.add(productId(productName));
+        }
+        this.cart = ids;
+        return this;
+    }
+
+    public InventoryPage openInventory() {
+        open("inventory.html");
+        return new InventoryPage(driver, wait);
+    }
+
+    public CartPage openCart() {
+        open("cart.html");
+        return new CartPage(driver, wait);
+    }
+
+    public CheckoutStepOnePage openCheckoutStepOne() {
+        open("checkout-step-one.html");
+        return new CheckoutStepOnePage(driver, wait);
+    }
+
+    private void open(String page) {
+        driver.manage().addCookie(new Cookie(SESSION_COOKIE, username));
+        if (cart != null) {
+            ((JavascriptExecutor) driver).executeScript(
+                    "window.localStorage.setItem(arguments[0], arguments[1]);", CART_KEY, cart.toString());
+        }
+        driver.get(URI.create(baseUrl).resolve(page).toString());
+        wait.until(ExpectedConditions.urlContains(page));
+    }
+}
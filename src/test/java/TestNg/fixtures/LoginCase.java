@@ -0,0 +1,128 @@
+package TestNg.fixtures;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * One row of the login matrix: credentials and what the login form should do with them. Rows are read
+ * from {@code login-matrix.csv} on the test classpath, or from the file given with {@code -Dlogin.matrix}.
+ * The CSV has a header row, {@code #} comment lines, and the columns username, password, expectation
+ * ({@code inventory} or {@code error}) and message. The message is the last column and may contain commas.
+ */
+public final class LoginCase {
+
+    public static final String MATRIX_PROPERTY = "login.matrix";
+    public static final String DEFAULT_MATRIX = "login-matrix.csv";
+
+    public enum Expectation {
+        INVENTORY, ERROR
+    }
+
+    private final int row;
+    private final String username;
+    private final String password;
+    private final Expectation expectation;
+    private final String message;
+
+    public LoginCase(int row, String username, String password, Expectation expectation, String message) {
+        this.row = row;
+        this.username = username;
+        this.password = password;
+        this.expectation = expectation;
+        this.message = message;
+    }
+
+    public static List<LoginCase> load() {
+        String source = System.getProperty(MATRIX_PROPERTY, DEFAULT_MATRIX);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(open(source), StandardCharsets.UTF_8))) {
+            List<LoginCase> cases = new ArrayList<>();
+            boolean header = true;
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                if (header) {
+                    header = false;
+                    continue;
+                }
+                cases.add(parse(cases.size() + 1, line, source + ":" + lineNumber));
+            }
+            if (cases.isEmpty()) {
+                throw new IllegalStateException("Login matrix " + source + " has no rows");
+            }
+            return cases;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read login matrix " + source, e);
+        }
+    }
+
+    private static InputStream open(String source) throws IOException {
+        Path file = Path.of(source);
+        if (Files.isRegularFile(file)) {
+            return Files.newInputStream(file);
+        }
+        InputStream resource = LoginCase.class.getClassLoader().getResourceAsStream(source);
+        if (resource == null) {
+            throw new IllegalStateException("Login matrix " + source + " not found on disk or on the classpath");
+        }
+        return resource;
+    }
+
+    private static LoginCase parse(int row, String line, String location) {
+        String[] columns = line.split(",", 4);
+        if (columns.length < 3) {
+            throw new IllegalStateException(location + ": expected username,password,expectation[,message] but got '" + line + "'");
+        }
+        Expectation expectation;
+        try {
+            expectation = Expectation.valueOf(columns[2].trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException(location + ": unknown expectation '" + columns[2].trim() + "'");
+        }
+        String message = columns.length == 4 ? columns[3].trim() : "";
+        if (expectation == Expectation.ERROR && message.isEmpty()) {
+            throw new IllegalStateException(location + ": error rows need the expected message");
+        }
+        return new LoginCase(row, columns[0].trim(), columns[1].trim(), expectation, message);
+    }
+
+    /** Position among the data rows of the matrix, from 1. */
+    public int row() {
+        return row;
+    }
+
+    public String username() {
+        return username;
+    }
+
+    public String password() {
+        return password;
+    }
+
+    public Expectation expectation() {
+        return expectation;
+    }
+
+    public String message() {
+        return message;
+    }
+
+    // The row keeps cases with the same username and outcome apart (test names, flaky stats) without
+    // printing the password
+    @Override
+    public String toString() {
+        return "row " + row + ": " + (username.isEmpty() ? "<no username>" : username) + " -> " + expectation.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,34 @@
+package TestNg.listeners;
+
+import TestNg.artifacts.ArtifactWriter;
+import TestNg.artifacts.FailureArtifacts;
+import TestNg.driver.DriverPool;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Captures the screenshot, page source and console log of every failed test attempt, including attempts
+ * that are retried. This runs right after the test method, before {@code teardown()} resets or quits the
+ * browser, and only reads from the browser; {@link ArtifactWriter} does the disk I/O in the background.
+ */
+public class FailureArtifactListener implements IInvokedMethodListener, ISuiteListener {
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult result) {
+        if (!method.isTestMethod() || (result.getStatus() != ITestResult.FAILURE && !result.wasRetried())) {
+            return;
+        }
+        ArtifactWriter.submit(FailureArtifacts.capture(DriverPool.leasedDriver(), result));
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        ArtifactWriter.drain(30, TimeUnit.SECONDS);
+        System.out.println(ArtifactWriter.summary());
+    }
+}
@@ -0,0 +1,110 @@
+package TestNg.listeners;
+
+import TestNg.metrics.LatencyRecorder;
+import org.openqa.selenium.json.Json;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes the latencies collected by {@link LatencyRecorder} when the suite finishes:
+ * {@code latency.json} and {@code latency.html} with p50/p95/p99 per operation type and per test, and one
+ * summary line per run appended to {@code history.jsonl} for tracking trends. The directory is
+ * {@code timing.reportDir} (default {@code target/latency-report}). The samples are cleared afterwards.
+ */
+public class LatencyReportListener implements ISuiteListener {
+
+    public static final String REPORT_DIR_PROPERTY = "timing.reportDir";
+
+    @Override
+    public void onFinish(ISuite suite) {
+        Map<String, LatencyRecorder.Stats> byOperation = LatencyRecorder.byOperation();
+        Map<String, Map<String, LatencyRecorder.Stats>> byTest = LatencyRecorder.byTest();
+        if (byOperation.isEmpty()) {
+            return;
+        }
+
+        Map<String, Object> operations = new LinkedHashMap<>();
+        byOperation.forEach((operation, stats) -> operations.put(operation, stats.toMap()));
+        Map<String, Object> tests = new LinkedHashMap<>();
+        byTest.forEach((test, perOperation) -> {
+            Map<String, Object> testOperations = new LinkedHashMap<>();
+            perOperation.forEach((operation, stats) -> testOperations.put(operation, stats.toMap()));
+            tests.put(test, testOperations);
+        });
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("suite", suite.getName());
+        report.put("finishedAt", Instant.now().toString());
+        report.put("operations", operations);
+        report.put("tests", tests);
+
+        Map<String, Object> history = new LinkedHashMap<>();
+        history.put("suite", suite.getName());
+        history.put("finishedAt", report.get("finishedAt"));
+        history.put("operations", operations);
+
+        Path dir = Paths.get(System.getProperty(REPORT_DIR_PROPERTY, "target/latency-report"));
+        try {
+            Files.createDirectories(dir);
+            Json json = new Json();
+            Files.writeString(dir.resolve("latency.json"), json.toJson(report), StandardCharsets.UTF_8);
+            Files.writeString(dir.resolve("latency.html"), html(suite.getName(), byOperation, byTest), StandardCharsets.UTF_8);
+            Files.writeString(dir.resolve("history.jsonl"),
+                    json.toJson(history).replaceAll("\\s*\\n\\s*", " ") + System.lineSeparator(),
+                    StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            System.out.println("Latency report written to " + dir.toAbsolutePath());
+        } catch (IOException e) {
+            System.out.println("Could not write latency report: " + e.getMessage());
+        }
+        // The next suite in the same JVM reports only its own samples
+        LatencyRecorder.reset();
+    }
+
+    private static String html(String suiteName,
+                               Map<String, LatencyRecorder.Stats> byOperation,
+                               Map<String, Map<String, LatencyRecorder.Stats>> byTest) {
+        StringBuilder html = new StringBuilder();
+        html.append("<!DOCTYPE html><html><head><meta charset=\"utf-8\"><title>Latency - ")
+                .append(escape(suiteName)).append("</title><style>")
+                .append("body{font-family:sans-serif;font-size:13px}table{border-collapse:collapse;margin-bottom:24px}")
+                .append("th,td{border:1px solid #ccc;padding:3px 8px;text-align:right}th:first-child,td:first-child{text-align:left}")
+                .append("</style></head><body><h1>").append(escape(suiteName)).append("</h1>");
+        html.append("<h2>By operation</h2><table>");
+        header(html, "Operation");
+        byOperation.forEach((operation, stats) -> row(html, operation, stats));
+        html.append("</table><h2>By test</h2><table>");
+        header(html, "Test / operation");
+        byTest.forEach((test, perOperation) -> {
+            html.append("<tr><th colspan=\"7\">").append(escape(test)).append("</th></tr>");
+            perOperation.forEach((operation, stats) -> row(html, operation, stats));
+        });
+        return html.append("</table></body></html>").toString();
+    }
+
+    private static void header(StringBuilder html, String first) {
+        html.append("<tr><th>").append(first)
+                .append("</th><th>Count</th><th>Total ms</th><th>p50 ms</th><th>p95 ms</th><th>p99 ms</th><th>Max ms</th></tr>");
+    }
+
+    private static void row(StringBuilder html, String name, LatencyRecorder.Stats stats) {
+        html.append("<tr><td>").append(escape(name)).append("</td><td>").append(stats.count())
+                .append("</td><td>").append(stats.totalMillis())
+                .append("</td><td>").append(stats.p50())
+                .append("</td><td>").append(stats.p95())
+                .append("</td><td>").append(stats.p99())
+                .append("</td><td>").append(stats.max()).append("</td></tr>");
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
@@ -0,0 +1,36 @@
+package TestNg.listeners;
+
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+
+/**
+ * Lets the thread count from testng.xml be overridden on the command line, e.g. {@code mvn test -Dthreads=8}.
+ * The same count sizes the pool that runs parallel data providers. {@code -Dthreads=1} falls back to the old
+ * serial run.
+ */
+public class ParallelSuiteListener implements IAlterSuiteListener {
+
+    public static final String THREADS_PROPERTY = "threads";
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        String threads = System.getProperty(THREADS_PROPERTY);
+        if (threads == null || threads.isBlank()) {
+            return;
+        }
+        int threadCount = Integer.parseInt(threads.trim());
+        for (XmlSuite suite : suites) {
+            if (threadCount <= 1) {
+                suite.setParallel(XmlSuite.ParallelMode.NONE);
+                suite.setThreadCount(1);
+                suite.setDataProviderThreadCount(1);
+            } else {
+                suite.setParallel(XmlSuite.ParallelMode.METHODS);
+                suite.setThreadCount(threadCount);
+                suite.setDataProviderThreadCount(threadCount);
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package TestNg.listeners;
+
+import TestNg.metrics.FlakyStats;
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestResult;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Re-runs a failed test up to {@code retry.max} times (default 1), drawing from a suite-wide budget of
+ * {@code retry.budget} retries (default 5) so a broken build cannot double its own run time. The retry
+ * gets a fresh browser: a failed test always makes {@code DriverPool} quit its browser.
+ */
+public class RetryAnalyzer implements IRetryAnalyzer {
+
+    public static final String MAX_RETRIES_PROPERTY = "retry.max";
+    public static final String BUDGET_PROPERTY = "retry.budget";
+
+    private static final int MAX_RETRIES = Integer.getInteger(MAX_RETRIES_PROPERTY, 1);
+    private static final AtomicInteger BUDGET = new AtomicInteger(Integer.getInteger(BUDGET_PROPERTY, 5));
+
+    private int attempts;
+
+    @Override
+    public boolean retry(ITestResult result) {
+        if (attempts >= MAX_RETRIES) {
+            return false;
+        }
+        if (BUDGET.getAndUpdate(left -> Math.max(left - 1, 0)) <= 0) {
+            System.out.println("Retry budget exhausted, not retrying " + FlakyStats.key(result));
+            return false;
+        }
+        attempts++;
+        FlakyStats.retried(result);
+        System.out.println("Retrying " + FlakyStats.key(result) + " (attempt " + (attempts + 1) + "): " + result.getThrowable());
+        return true;
+    }
+}
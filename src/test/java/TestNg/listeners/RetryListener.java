@@ -0,0 +1,46 @@
+package TestNg.listeners;
+
+import TestNg.metrics.FlakyStats;
+import org.testng.IAnnotationTransformer;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.annotations.ITestAnnotation;
+import org.testng.internal.annotations.DisabledRetryAnalyzer;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+/**
+ * Attaches {@link RetryAnalyzer} to every test that has no analyzer of its own, and records the final
+ * outcome of each test in {@link FlakyStats}. Retried attempts are reported by TestNG as skipped and
+ * are not counted.
+ */
+public class RetryListener implements IAnnotationTransformer, ITestListener, ISuiteListener {
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
+        // @Test without retryAnalyzer reports TestNG's DisabledRetryAnalyzer
+        if (annotation.getRetryAnalyzerClass() == null || annotation.getRetryAnalyzerClass() == DisabledRetryAnalyzer.class) {
+            annotation.setRetryAnalyzer(RetryAnalyzer.class);
+        }
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        FlakyStats.passed(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        FlakyStats.failed(result);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        System.out.println(FlakyStats.summary());
+        FlakyStats.save();
+    }
+}
@@ -0,0 +1,105 @@
+package TestNg.listeners;
+
+import TestNg.metrics.TestDurations;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Runs one shard of the suite when {@code shard.count} is greater than 1. The test methods are split with
+ * longest-processing-time-first on the durations in {@link TestDurations}: the longest method goes to the
+ * least-loaded shard, and so on. Every shard computes the same split from the same durations file, so the
+ * shards together run every method exactly once.
+ *
+ * <p>The shard is {@code shard.index} (0-based). Every shard is a JVM of its own, so suite-level state
+ * (browsers, reports, durations) is never shared between shards. Each shard records the durations of what it ran.
+ */
+public class ShardListener implements IMethodInterceptor, ITestListener, ISuiteListener {
+
+    public static final String COUNT_PROPERTY = "shard.count";
+    public static final String INDEX_PROPERTY = "shard.index";
+
+    // Estimate for methods that have never run
+    private static final long UNKNOWN_MILLIS = 10_000;
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        int shardCount = Integer.getInteger(COUNT_PROPERTY, 1);
+        if (shardCount <= 1) {
+            return methods;
+        }
+        int shardIndex = shardIndex();
+        if (shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException("Shard index " + shardIndex + " is outside 0.." + (shardCount - 1));
+        }
+
+        long fallback = Math.round(TestDurations.all().values().stream().mapToLong(Long::longValue).average().orElse(UNKNOWN_MILLIS));
+        List<IMethodInstance> byDuration = new ArrayList<>(methods);
+        byDuration.sort(Comparator.comparingLong((IMethodInstance method) -> -estimate(method, fallback))
+                .thenComparing(ShardListener::key));
+
+        long[] load = new long[shardCount];
+        List<IMethodInstance> mine = new ArrayList<>();
+        long total = 0;
+        for (IMethodInstance method : byDuration) {
+            int target = 0;
+            for (int shard = 1; shard < shardCount; shard++) {
+                if (load[shard] < load[target]) {
+                    target = shard;
+                }
+            }
+            long estimate = estimate(method, fallback);
+            load[target] += estimate;
+            total += estimate;
+            if (target == shardIndex) {
+                mine.add(method);
+            }
+        }
+        // Keep the original order inside the shard so the stage groups still read top to bottom
+        List<IMethodInstance> ordered = new ArrayList<>(methods);
+        ordered.retainAll(mine);
+        System.out.printf("Shard %d/%d: %d of %d methods, ~%d s of ~%d s estimated%n",
+                shardIndex + 1, shardCount, ordered.size(), methods.size(), load[shardIndex] / 1000, total / 1000);
+        return ordered;
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        TestDurations.record(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        TestDurations.record(result);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        TestDurations.save();
+    }
+
+    private static int shardIndex() {
+        Integer index = Integer.getInteger(INDEX_PROPERTY);
+        if (index != null) {
+            return index;
+        }
+        throw new IllegalArgumentException(COUNT_PROPERTY + " is set but " + INDEX_PROPERTY + " is not");
+    }
+
+    private static long estimate(IMethodInstance method, long fallback) {
+        long millis = TestDurations.typicalMillis(key(method));
+        return millis < 0 ? fallback : millis;
+    }
+
+    private static String key(IMethodInstance method) {
+        return TestDurations.key(method.getMethod().getRealClass(), method.getMethod().getMethodName());
+    }
+}
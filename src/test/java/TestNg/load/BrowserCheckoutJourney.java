@@ -0,0 +1,81 @@
+package TestNg.load;
+
+import TestNg.driver.DriverFactory;
+import TestNg.money.CheckoutMath;
+import TestNg.pages.CheckoutStepOnePage;
+import TestNg.pages.CheckoutStepTwoPage;
+import TestNg.pages.CompletePage;
+import TestNg.pages.DomSnapshot;
+import TestNg.pages.InventoryPage;
+import TestNg.pages.LoginPage;
+import TestNg.waits.Waits;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+/**
+ * The journey of {@code testCompleteCheckoutAndVerify} in a real browser: log in through the form, add two
+ * items, check out and finish. Each virtual user owns one browser for the whole run and clears its
+ * session between iterations. Use {@code -Dbrowser.profile=light} to keep many users affordable.
+ */
+public class BrowserCheckoutJourney implements Journey {
+
+    private final WebDriver driver = DriverFactory.create();
+    private final WebDriverWait wait = Waits.forDriver(driver);
+    private final String baseUrl;
+    private final String username;
+
+    public BrowserCheckoutJourney(String baseUrl, String username) {
+        this.baseUrl = baseUrl;
+        this.username = username;
+    }
+
+    @Override
+    public void run(LoadStats.Steps steps) throws Exception {
+        try {
+            checkout(steps);
+        } finally {
+            // Start the next iteration logged out with an empty cart, even after a failed step
+            try {
+                driver.manage().deleteAllCookies();
+                ((JavascriptExecutor) driver).executeScript("window.localStorage.clear(); window.sessionStorage.clear();");
+            } catch (WebDriverException e) {
+                System.out.println("Could not reset the session: " + e.getMessage());
+            }
+        }
+    }
+
+    private void checkout(LoadStats.Steps steps) throws Exception {
+        steps.step("login page", () -> {
+            driver.get(baseUrl);
+            return new LoginPage(driver, wait).waitUntilLoaded();
+        });
+        InventoryPage inventory = steps.step("inventory", () -> {
+            new LoginPage(driver, wait).login(username, "secret_sauce");
+            wait.until(Waits.pageLoaded("inventory.html"));
+            return new InventoryPage(driver, wait);
+        });
+        steps.step("add items", () -> inventory.addToCart("Sauce Labs Backpack").addToCart("Sauce Labs Bike Light"));
+        CheckoutStepOnePage checkoutInfo = steps.step("cart", () -> inventory.openCart().checkout());
+        CheckoutStepTwoPage overview = steps.step("checkout info",
+                () -> checkoutInfo.fillForm("John", "Doe", "12345").continueToOverview());
+        CompletePage complete = steps.step("overview", () -> {
+            DomSnapshot summary = overview.summarySnapshot();
+            CheckoutMath.verify(summary.texts("prices"), summary.text("subtotal"), summary.text("tax"), summary.text("total"));
+            return overview.finish();
+        });
+        steps.step("complete", () -> {
+            String header = complete.headerText();
+            if (!"THANK YOU FOR YOUR ORDER".equals(header)) {
+                throw new AssertionError("Unexpected confirmation header: " + header);
+            }
+            return header;
+        });
+    }
+
+    @Override
+    public void close() {
+        driver.quit();
+    }
+}
@@ -0,0 +1,56 @@
+package TestNg.load;
+
+import TestNg.fixtures.CartFixture;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Replays the page requests of the checkout journey without a browser. SauceDemo v1 keeps the cart and
+ * the checkout form in the browser, so at HTTP level the journey is the sequence of page loads with the
+ * session cookie; that is enough to load the server, including the performance_glitch_user delay.
+ */
+public class HttpCheckoutJourney implements Journey {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(TIMEOUT)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+    private final URI baseUri;
+    private final String username;
+
+    public HttpCheckoutJourney(String baseUrl, String username) {
+        this.baseUri = URI.create(baseUrl);
+        this.username = username;
+    }
+
+    @Override
+    public void run(LoadStats.Steps steps) throws Exception {
+        steps.step("login page", () -> get("index.html", false, "login-button"));
+        steps.step("inventory", () -> get("inventory.html", true, "inventory_container"));
+        steps.step("cart", () -> get("cart.html", true, "checkout_button"));
+        steps.step("checkout info", () -> get("checkout-step-one.html", true, "postal-code"));
+        steps.step("overview", () -> get("checkout-step-two.html", true, "summary_total_label"));
+        steps.step("complete", () -> get("checkout-complete.html", true, "complete-header"));
+    }
+
+    private String get(String page, boolean loggedIn, String marker) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(baseUri.resolve(page)).timeout(TIMEOUT).GET();
+        if (loggedIn) {
+            request.header("Cookie", CartFixture.SESSION_COOKIE + "=" + username);
+        }
+        HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(page + " returned HTTP " + response.statusCode());
+        }
+        if (!response.body().contains(marker)) {
+            throw new IllegalStateException(page + " does not contain " + marker);
+        }
+        return response.body();
+    }
+}
@@ -0,0 +1,16 @@
+package TestNg.load;
+
+/**
+ * One virtual user's checkout journey. A load run creates one instance per virtual user and calls
+ * {@link #run} repeatedly from that user's thread, so implementations can keep per-user state (a browser,
+ * an HTTP client) without synchronisation.
+ */
+public interface Journey extends AutoCloseable {
+
+    /** Runs the journey once, timing each step with {@code steps}. Any exception fails the journey. */
+    void run(LoadStats.Steps steps) throws Exception;
+
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,173 @@
+package TestNg.load;
+
+import TestNg.Environment;
+import TestNg.metrics.LatencyRecorder;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Runs the checkout journey with N concurrent virtual users and reports journeys per second, step latency
+ * percentiles and histograms, and the error rate. Without {@code -Dsaucedemo.baseUrl} it targets the
+ * embedded stand-in server, so it runs offline:
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=TestNg.load.LoadRunner \
+ *     -Dload.users=20 -Dload.durationSec=60
+ * </pre>
+ *
+ * The report is printed and written to {@code load.reportDir/load.json}. The exit code is 1 when any
+ * journey failed.
+ */
+public final class LoadRunner {
+
+    public static final String USERS_PROPERTY = "load.users";
+    public static final String ITERATIONS_PROPERTY = "load.iterations";
+    public static final String DURATION_PROPERTY = "load.durationSec";
+    public static final String MODE_PROPERTY = "load.mode";
+    public static final String USERNAME_PROPERTY = "load.username";
+    public static final String REPORT_DIR_PROPERTY = "load.reportDir";
+
+    private final int users;
+    private final int iterations;
+    private final long durationMillis;
+    private final Function<Integer, Journey> journeys;
+    private final LoadStats stats = new LoadStats();
+
+    /**
+     * @param iterations     journeys per virtual user; ignored when {@code durationMillis} is positive
+     * @param durationMillis how long every virtual user keeps starting new journeys, or 0
+     * @param journeys       creates the journey of the virtual user with the given number
+     */
+    public LoadRunner(int users, int iterations, long durationMillis, Function<Integer, Journey> journeys) {
+        this.users = users;
+        this.iterations = iterations;
+        this.durationMillis = durationMillis;
+        this.journeys = journeys;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        if (System.getProperty(Environment.BASE_URL_PROPERTY) == null && System.getProperty(Environment.LOCAL_PROPERTY) == null) {
+            System.setProperty(Environment.LOCAL_PROPERTY, "true");
+        }
+        String baseUrl = Environment.baseUrl();
+        String mode = System.getProperty(MODE_PROPERTY, "http").trim().toLowerCase(Locale.ROOT);
+        String username = System.getProperty(USERNAME_PROPERTY, "standard_user");
+        Function<Integer, Journey> journeys;
+        switch (mode) {
+            case "http":
+                journeys = user -> new HttpCheckoutJourney(baseUrl, username);
+                break;
+            case "browser":
+                journeys = user -> new BrowserCheckoutJourney(baseUrl, username);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown " + MODE_PROPERTY + " '" + mode + "', expected http or browser");
+        }
+
+        LoadRunner runner = new LoadRunner(Integer.getInteger(USERS_PROPERTY, 4), Integer.getInteger(ITERATIONS_PROPERTY, 10),
+                TimeUnit.SECONDS.toMillis(Long.getLong(DURATION_PROPERTY, 0)), journeys);
+        System.out.println("Load run: " + runner.describe() + ", mode " + mode + " against " + baseUrl);
+        Map<String, Object> report = runner.run();
+        runner.print(report);
+        runner.write(report, Paths.get(System.getProperty(REPORT_DIR_PROPERTY, "target/load-report")));
+        System.exit(runner.stats.failed() == 0 ? 0 : 1);
+    }
+
+    public Map<String, Object> run() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(users, runnable -> new Thread(runnable, "virtual-user"));
+        CountDownLatch done = new CountDownLatch(users);
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+        for (int user = 0; user < users; user++) {
+            int virtualUser = user;
+            executor.execute(() -> {
+                try (Journey journey = journeys.apply(virtualUser)) {
+                    for (int i = 0; durationMillis > 0 ? System.nanoTime() < deadline : i < iterations; i++) {
+                        long journeyStart = System.nanoTime();
+                        try {
+                            journey.run(stats.steps());
+                            stats.journeyCompleted(System.nanoTime() - journeyStart);
+                        } catch (Exception | AssertionError e) {
+                            stats.journeyFailed();
+                        }
+                        // Browser journeys time their driver calls and waits like the suite does, but no
+                        // report listener clears those samples here, and a long run would keep them all
+                        LatencyRecorder.reset();
+                    }
+                } catch (RuntimeException e) {
+                    System.out.println("Virtual user " + virtualUser + " could not start: " + e.getMessage());
+                    stats.journeyFailed();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        executor.shutdown();
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        Map<String, Object> steps = new LinkedHashMap<>();
+        Map<String, Map<String, Long>> histograms = stats.stepHistograms();
+        stats.stepStats().forEach((step, stepStats) -> {
+            Map<String, Object> entry = new LinkedHashMap<>(stepStats.toMap());
+            entry.put("histogram", histograms.get(step));
+            steps.put(step, entry);
+        });
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", Instant.now().toString());
+        report.put("users", users);
+        report.put("seconds", Math.round(seconds * 100) / 100.0);
+        report.put("completed", stats.completed());
+        report.put("failed", stats.failed());
+        report.put("journeysPerSecond", Math.round(stats.completed() / seconds * 100) / 100.0);
+        report.put("errorRate", Math.round(stats.errorRate() * 10_000) / 10_000.0);
+        report.put("journey", stats.journeyStats().toMap());
+        report.put("steps", steps);
+        report.put("errors", stats.errors());
+        return report;
+    }
+
+    public LoadStats stats() {
+        return stats;
+    }
+
+    private String describe() {
+        return users + " users, " + (durationMillis > 0 ? durationMillis / 1000 + " s" : iterations + " journeys each");
+    }
+
+    private void print(Map<String, Object> report) {
+        System.out.println(String.format(Locale.ROOT, "%d journeys completed, %d failed in %s s: %s journeys/s, error rate %.2f%%",
+                stats.completed(), stats.failed(), report.get("seconds"), report.get("journeysPerSecond"), stats.errorRate() * 100));
+        LatencyRecorder.Stats journey = stats.journeyStats();
+        System.out.println(String.format(Locale.ROOT, "  %-14s p50 %8.2f  p95 %8.2f  p99 %8.2f  max %8.2f ms",
+                "journey", journey.p50(), journey.p95(), journey.p99(), journey.max()));
+        stats.stepStats().forEach((step, stepStats) -> System.out.println(String.format(Locale.ROOT,
+                "  %-14s p50 %8.2f  p95 %8.2f  p99 %8.2f  max %8.2f ms",
+                step, stepStats.p50(), stepStats.p95(), stepStats.p99(), stepStats.max())));
+        stats.errors().forEach((error, count) -> System.out.println("  error " + error + " x" + count));
+    }
+
+    private void write(Map<String, Object> report, Path dir) {
+        try {
+            Files.createDirectories(dir);
+            Files.writeString(dir.resolve("load.json"), new Json().toJson(report), StandardCharsets.UTF_8);
+            System.out.println("Load report written to " + dir.toAbsolutePath());
+        } catch (IOException e) {
+            System.out.println("Could not write load report: " + e.getMessage());
+        }
+    }
+}
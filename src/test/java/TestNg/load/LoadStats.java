@@ -0,0 +1,117 @@
+package TestNg.load;
+
+import TestNg.metrics.LatencyRecorder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe results of a load run: completed and failed journeys, per-step latencies and the errors
+ * that failed each step.
+ */
+public final class LoadStats {
+
+    // Upper bounds of the latency histogram buckets in milliseconds; the last bucket is open-ended
+    private static final long[] BUCKETS_MS = {10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+    private final Map<String, ConcurrentLinkedQueue<Long>> stepNanos = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> errors = new ConcurrentHashMap<>();
+    private final CopyOnWriteArrayList<String> stepOrder = new CopyOnWriteArrayList<>();
+    private final ConcurrentLinkedQueue<Long> journeyNanos = new ConcurrentLinkedQueue<>();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    /** Times the steps of a single journey. */
+    public final class Steps {
+
+        public <T> T step(String name, Callable<T> action) throws Exception {
+            long start = System.nanoTime();
+            try {
+                return action.call();
+            } catch (Exception | AssertionError e) {
+                errors.computeIfAbsent(name + ": " + e.getClass().getSimpleName(), key -> new AtomicLong()).incrementAndGet();
+                throw e;
+            } finally {
+                stepOrder.addIfAbsent(name);
+                stepNanos.computeIfAbsent(name, key -> new ConcurrentLinkedQueue<>()).add(System.nanoTime() - start);
+            }
+        }
+    }
+
+    public Steps steps() {
+        return new Steps();
+    }
+
+    void journeyCompleted(long nanos) {
+        journeyNanos.add(nanos);
+        completed.incrementAndGet();
+    }
+
+    void journeyFailed() {
+        failed.incrementAndGet();
+    }
+
+    public long completed() {
+        return completed.get();
+    }
+
+    public long failed() {
+        return failed.get();
+    }
+
+    public double errorRate() {
+        long total = completed() + failed();
+        return total == 0 ? 0 : (double) failed() / total;
+    }
+
+    /** Duration percentiles of the completed journeys. */
+    public LatencyRecorder.Stats journeyStats() {
+        return LatencyRecorder.Stats.of(new ArrayList<>(journeyNanos));
+    }
+
+    /** Step latency percentiles, in the order the steps first ran. */
+    public Map<String, LatencyRecorder.Stats> stepStats() {
+        Map<String, LatencyRecorder.Stats> stats = new LinkedHashMap<>();
+        for (String step : List.copyOf(stepOrder)) {
+            stats.put(step, LatencyRecorder.Stats.of(new ArrayList<>(stepNanos.get(step))));
+        }
+        return stats;
+    }
+
+    /** Sample counts per bucket, keyed by bucket label such as {@code <=100ms} or {@code >10000ms}. */
+    public Map<String, Map<String, Long>> stepHistograms() {
+        Map<String, Map<String, Long>> histograms = new LinkedHashMap<>();
+        for (String step : List.copyOf(stepOrder)) {
+            long[] counts = new long[BUCKETS_MS.length + 1];
+            for (long nanos : stepNanos.get(step)) {
+                long millis = nanos / 1_000_000;
+                int bucket = 0;
+                while (bucket < BUCKETS_MS.length && millis > BUCKETS_MS[bucket]) {
+                    bucket++;
+                }
+                counts[bucket]++;
+            }
+            Map<String, Long> histogram = new LinkedHashMap<>();
+            for (int i = 0; i < BUCKETS_MS.length; i++) {
+                histogram.put("<=" + BUCKETS_MS[i] + "ms", counts[i]);
+            }
+            histogram.put(">" + BUCKETS_MS[BUCKETS_MS.length - 1] + "ms", counts[BUCKETS_MS.length]);
+            histograms.put(step, histogram);
+        }
+        return histograms;
+    }
+
+    public Map<String, Long> errors() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        errors.forEach((error, count) -> snapshot.put(error, count.get()));
+        return snapshot;
+    }
+}
@@ -0,0 +1,121 @@
+package TestNg.metrics;
+
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Counts, per test and across runs, how often it passed first time, passed only after a retry (flaky) or
+ * failed every attempt (hard). The counts are kept in {@code retry.stats} (default
+ * {@code target/flaky-stats.properties}) as {@code <test>.passed}, {@code <test>.flaky} and
+ * {@code <test>.hard}, so tests that keep showing up as flaky can be quarantined.
+ */
+public final class FlakyStats {
+
+    public static final String FILE_PROPERTY = "retry.stats";
+
+    private static final Path FILE = Paths.get(System.getProperty(FILE_PROPERTY, "target/flaky-stats.properties"));
+    private static final int QUARANTINE_AFTER_FLAKY_RUNS = 3;
+    private static final Map<String, Long> COUNTS = load();
+    private static final Set<String> RETRIED_THIS_RUN = ConcurrentHashMap.newKeySet();
+    private static final Set<String> FLAKY_THIS_RUN = ConcurrentHashMap.newKeySet();
+    private static final Set<String> HARD_THIS_RUN = ConcurrentHashMap.newKeySet();
+
+    private FlakyStats() {
+    }
+
+    /** Test name plus data provider parameters, e.g. {@code SaucedemoTest.testLogin[row 1: standard_user -> inventory]}. */
+    public static String key(ITestResult result) {
+        String name = result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+        Object[] parameters = result.getParameters();
+        return parameters == null || parameters.length == 0 ? name : name + Arrays.toString(parameters);
+    }
+
+    public static void retried(ITestResult result) {
+        RETRIED_THIS_RUN.add(key(result));
+    }
+
+    public static void passed(ITestResult result) {
+        String key = key(result);
+        if (RETRIED_THIS_RUN.contains(key)) {
+            FLAKY_THIS_RUN.add(key);
+            COUNTS.merge(key + ".flaky", 1L, Long::sum);
+        } else {
+            COUNTS.merge(key + ".passed", 1L, Long::sum);
+        }
+    }
+
+    public static void failed(ITestResult result) {
+        String key = key(result);
+        HARD_THIS_RUN.add(key);
+        COUNTS.merge(key + ".hard", 1L, Long::sum);
+    }
+
+    public static String summary() {
+        List<String> quarantine = quarantineCandidates(QUARANTINE_AFTER_FLAKY_RUNS);
+        return String.format("Retries: %d test(s) retried, %d flaky (passed on retry), %d hard failure(s)%s%s",
+                RETRIED_THIS_RUN.size(), FLAKY_THIS_RUN.size(), HARD_THIS_RUN.size(),
+                FLAKY_THIS_RUN.isEmpty() ? "" : "; flaky: " + FLAKY_THIS_RUN.stream().sorted().collect(Collectors.joining(", ")),
+                quarantine.isEmpty() ? "" : "; quarantine candidates: " + String.join(", ", quarantine));
+    }
+
+    public static void save() {
+        Properties properties = new Properties();
+        new TreeMap<>(COUNTS).forEach((key, count) -> properties.setProperty(key, Long.toString(count)));
+        try {
+            Path parent = FILE.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (OutputStream out = Files.newOutputStream(FILE)) {
+                properties.store(out, "Per test: runs passed first time, passed after a retry (flaky), failed every attempt (hard)");
+            }
+        } catch (IOException e) {
+            System.out.println("Could not save flaky test stats to " + FILE + ": " + e.getMessage());
+        }
+    }
+
+    /** Tests that were flaky in at least {@code minFlakyRuns} recorded runs, most flaky first. */
+    public static List<String> quarantineCandidates(int minFlakyRuns) {
+        return COUNTS.entrySet().stream()
+                .filter(entry -> entry.getKey().endsWith(".flaky") && entry.getValue() >= minFlakyRuns)
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .map(entry -> entry.getKey().substring(0, entry.getKey().length() - ".flaky".length()))
+                .collect(Collectors.toList());
+    }
+
+    private static Map<String, Long> load() {
+        Map<String, Long> counts = new ConcurrentHashMap<>();
+        if (!Files.isRegularFile(FILE)) {
+            return counts;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(FILE)) {
+            properties.load(in);
+        } catch (IOException e) {
+            System.out.println("Could not read flaky test stats from " + FILE + ": " + e.getMessage());
+            return counts;
+        }
+        for (String key : properties.stringPropertyNames()) {
+            try {
+                counts.put(key, Long.parseLong(properties.getProperty(key).trim()));
+            } catch (NumberFormatException ignored) {
+                // a corrupt entry starts counting again
+            }
+        }
+        return counts;
+    }
+}
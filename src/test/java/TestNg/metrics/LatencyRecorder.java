@@ -0,0 +1,142 @@
+package TestNg.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Collects operation durations per test method. Samples are attributed to the test running on the
+ * recording thread; anything outside a test (suite setup, pre-warming) lands under {@link #NO_TEST}.
+ */
+public final class LatencyRecorder {
+
+    public static final String NO_TEST = "(outside tests)";
+
+    private static final ThreadLocal<String> CURRENT_TEST = new ThreadLocal<>();
+    private static final Map<String, Map<String, ConcurrentLinkedQueue<Long>>> SAMPLES = new ConcurrentHashMap<>();
+
+    private LatencyRecorder() {
+    }
+
+    public static void startTest(String testName) {
+        CURRENT_TEST.set(testName);
+    }
+
+    public static void endTest() {
+        CURRENT_TEST.remove();
+    }
+
+    public static void record(String operation, long nanos) {
+        String test = CURRENT_TEST.get();
+        SAMPLES.computeIfAbsent(test == null ? NO_TEST : test, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(operation, key -> new ConcurrentLinkedQueue<>())
+                .add(nanos);
+    }
+
+    /** Percentile stats per operation type across the whole run. */
+    public static Map<String, Stats> byOperation() {
+        Map<String, List<Long>> merged = new TreeMap<>();
+        SAMPLES.values().forEach(operations -> operations.forEach(
+                (operation, samples) -> merged.computeIfAbsent(operation, key -> new ArrayList<>()).addAll(samples)));
+        Map<String, Stats> stats = new LinkedHashMap<>();
+        merged.forEach((operation, samples) -> stats.put(operation, Stats.of(samples)));
+        return stats;
+    }
+
+    /** Percentile stats per test, then per operation type. */
+    public static Map<String, Map<String, Stats>> byTest() {
+        Map<String, Map<String, Stats>> stats = new TreeMap<>();
+        SAMPLES.forEach((test, operations) -> {
+            Map<String, Stats> perOperation = new TreeMap<>();
+            operations.forEach((operation, samples) -> perOperation.put(operation, Stats.of(new ArrayList<>(samples))));
+            stats.put(test, perOperation);
+        });
+        return stats;
+    }
+
+    public static void reset() {
+        SAMPLES.clear();
+    }
+
+    public static final class Stats {
+        private final int count;
+        private final double totalMillis;
+        private final double p50;
+        private final double p95;
+        private final double p99;
+        private final double max;
+
+        private Stats(int count, double totalMillis, double p50, double p95, double p99, double max) {
+            this.count = count;
+            this.totalMillis = totalMillis;
+            this.p50 = p50;
+            this.p95 = p95;
+            this.p99 = p99;
+            this.max = max;
+        }
+
+        public static Stats of(List<Long> nanos) {
+            long[] sorted = nanos.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            long total = 0;
+            for (long sample : sorted) {
+                total += sample;
+            }
+            return new Stats(sorted.length, millis(total), millis(percentile(sorted, 50)), millis(percentile(sorted, 95)),
+                    millis(percentile(sorted, 99)), millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+        }
+
+        // Nearest-rank percentile
+        private static long percentile(long[] sorted, int percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+            return sorted[Math.max(rank, 1) - 1];
+        }
+
+        private static double millis(long nanos) {
+            return Math.round(nanos / 10_000.0) / 100.0;
+        }
+
+        public int count() {
+            return count;
+        }
+
+        public double totalMillis() {
+            return totalMillis;
+        }
+
+        public double p50() {
+            return p50;
+        }
+
+        public double p95() {
+            return p95;
+        }
+
+        public double p99() {
+            return p99;
+        }
+
+        public double max() {
+            return max;
+        }
+
+        public Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("count", count);
+            map.put("totalMs", totalMillis);
+            map.put("p50Ms", p50);
+            map.put("p95Ms", p95);
+            map.put("p99Ms", p99);
+            map.put("maxMs", max);
+            return map;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package TestNg.metrics;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Navigation and Paint Timing of the page the browser currently shows, in milliseconds since navigation
+ * start. Values the browser did not report (e.g. LCP in a browser without the API) are null.
+ */
+public final class PageTimings {
+
+    // Waits for loadEventEnd so the navigation entry is complete, then lets a buffered observer replay the
+    // largest-contentful-paint entries; they are only exposed through PerformanceObserver.
+    private static final String COLLECT =
+            "var done = arguments[arguments.length - 1];"
+                    + "var attempts = 0;"
+                    + "function collect() {"
+                    + "  var nav = performance.getEntriesByType('navigation')[0];"
+                    + "  if (nav && nav.loadEventEnd === 0 && attempts++ < 100) { setTimeout(collect, 20); return; }"
+                    + "  var result = {url: location.href};"
+                    + "  if (nav) {"
+                    + "    result.ttfb = nav.responseStart;"
+                    + "    result.domContentLoaded = nav.domContentLoadedEventEnd;"
+                    + "    result.load = nav.loadEventEnd;"
+                    + "  }"
+                    + "  performance.getEntriesByType('paint').forEach(function (p) { result[p.name] = p.startTime; });"
+                    + "  var types = window.PerformanceObserver && PerformanceObserver.supportedEntryTypes;"
+                    + "  if (!types || types.indexOf('largest-contentful-paint') < 0) { done(result); return; }"
+                    + "  var keep = function (entries) {"
+                    + "    if (entries.length) { result.lcp = entries[entries.length - 1].startTime; }"
+                    + "  };"
+                    + "  var observer = new PerformanceObserver(function (list) { keep(list.getEntries()); });"
+                    + "  observer.observe({type: 'largest-contentful-paint', buffered: true});"
+                    + "  setTimeout(function () { keep(observer.takeRecords()); observer.disconnect(); done(result); }, 50);"
+                    + "}"
+                    + "collect();";
+
+    private final String url;
+    private final Double ttfb;
+    private final Double domContentLoaded;
+    private final Double load;
+    private final Double firstPaint;
+    private final Double firstContentfulPaint;
+    private final Double largestContentfulPaint;
+
+    private PageTimings(Map<?, ?> raw) {
+        this.url = String.valueOf(raw.get("url"));
+        this.ttfb = millis(raw.get("ttfb"));
+        this.domContentLoaded = millis(raw.get("domContentLoaded"));
+        this.load = millis(raw.get("load"));
+        this.firstPaint = millis(raw.get("first-paint"));
+        this.firstContentfulPaint = millis(raw.get("first-contentful-paint"));
+        this.largestContentfulPaint = millis(raw.get("lcp"));
+    }
+
+    /**
+     * Reads the timings and records each one with {@link LatencyRecorder} as {@code page.<metric>}, so
+     * they show up in the latency report next to the WebDriver calls.
+     */
+    public static PageTimings capture(WebDriver driver) {
+        Object raw = ((JavascriptExecutor) driver).executeAsyncScript(COLLECT);
+        PageTimings timings = new PageTimings(raw instanceof Map ? (Map<?, ?>) raw : Map.of());
+        timings.asMap().forEach((metric, millis) -> LatencyRecorder.record("page." + metric, Math.round(millis * 1_000_000)));
+        return timings;
+    }
+
+    private static Double millis(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : null;
+    }
+
+    public String url() {
+        return url;
+    }
+
+    public Double ttfb() {
+        return ttfb;
+    }
+
+    public Double domContentLoaded() {
+        return domContentLoaded;
+    }
+
+    public Double load() {
+        return load;
+    }
+
+    public Double firstPaint() {
+        return firstPaint;
+    }
+
+    public Double firstContentfulPaint() {
+        return firstContentfulPaint;
+    }
+
+    public Double largestContentfulPaint() {
+        return largestContentfulPaint;
+    }
+
+    /** Reported metrics only, keyed ttfb, domContentLoaded, load, fp, fcp and lcp. */
+    public Map<String, Double> asMap() {
+        Map<String, Double> map = new LinkedHashMap<>();
+        putIfReported(map, "ttfb", ttfb);
+        putIfReported(map, "domContentLoaded", domContentLoaded);
+        putIfReported(map, "load", load);
+        putIfReported(map, "fp", firstPaint);
+        putIfReported(map, "fcp", firstContentfulPaint);
+        putIfReported(map, "lcp", largestContentfulPaint);
+        return map;
+    }
+
+    private static void putIfReported(Map<String, Double> map, String metric, Double millis) {
+        if (millis != null) {
+            map.put(metric, millis);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return url + " " + asMap();
+    }
+}
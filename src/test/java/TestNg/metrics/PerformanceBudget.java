@@ -0,0 +1,115 @@
+package TestNg.metrics;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Upper limits for the {@link PageTimings} of one page. Budgets are immutable; every setter returns a copy,
+ * so a shared budget can be tightened or relaxed per test:
+ *
+ * <pre>
+ * PerformanceBudget inventory = PerformanceBudget.forPage("inventory").ttfb(1000).lcp(2500);
+ * inventory.warnOnly().check(driver);
+ * </pre>
+ *
+ * A FAIL budget throws an AssertionError listing every exceeded limit; a WARN budget only prints them.
+ * {@code -Dbudget.mode=fail|warn|off} overrides the mode of every budget in the run.
+ */
+public final class PerformanceBudget {
+
+    public static final String MODE_PROPERTY = "budget.mode";
+
+    public enum Mode {
+        FAIL, WARN, OFF
+    }
+
+    private final String page;
+    private final Map<String, Long> limits;
+    private final Mode mode;
+
+    private PerformanceBudget(String page, Map<String, Long> limits, Mode mode) {
+        this.page = page;
+        this.limits = limits;
+        this.mode = mode;
+    }
+
+    public static PerformanceBudget forPage(String page) {
+        return new PerformanceBudget(page, Map.of(), Mode.FAIL);
+    }
+
+    public PerformanceBudget ttfb(long maxMillis) {
+        return limit("ttfb", maxMillis);
+    }
+
+    public PerformanceBudget fcp(long maxMillis) {
+        return limit("fcp", maxMillis);
+    }
+
+    public PerformanceBudget lcp(long maxMillis) {
+        return limit("lcp", maxMillis);
+    }
+
+    public PerformanceBudget load(long maxMillis) {
+        return limit("load", maxMillis);
+    }
+
+    /** Limit for any key of {@link PageTimings#asMap()}. */
+    public PerformanceBudget limit(String metric, long maxMillis) {
+        Map<String, Long> copy = new LinkedHashMap<>(limits);
+        copy.put(metric, maxMillis);
+        return new PerformanceBudget(page, copy, mode);
+    }
+
+    public PerformanceBudget warnOnly() {
+        return new PerformanceBudget(page, limits, Mode.WARN);
+    }
+
+    public Mode mode() {
+        String override = System.getProperty(MODE_PROPERTY);
+        return override == null || override.isBlank() ? mode : Mode.valueOf(override.trim().toUpperCase(Locale.ROOT));
+    }
+
+    /** Captures the timings of the current page and enforces this budget on them. */
+    public PageTimings check(WebDriver driver) {
+        Mode effective = mode();
+        if (effective == Mode.OFF) {
+            return null;
+        }
+        PageTimings timings = PageTimings.capture(driver);
+        List<String> violations = violations(timings);
+        if (violations.isEmpty()) {
+            return timings;
+        }
+        String message = "Performance budget for " + page + " exceeded (" + timings.url() + "): " + String.join("; ", violations);
+        if (effective == Mode.FAIL) {
+            throw new AssertionError(message);
+        }
+        System.out.println("WARN " + message);
+        return timings;
+    }
+
+    public List<String> violations(PageTimings timings) {
+        Map<String, Double> measured = timings.asMap();
+        List<String> violations = new ArrayList<>();
+        limits.forEach((metric, maxMillis) -> {
+            Double actual = measured.get(metric);
+            if (actual == null) {
+                // Not every browser reports every metric; a missing value is not a regression
+                System.out.println("Budget " + page + "." + metric + " skipped: not reported by the browser");
+            } else if (actual > maxMillis) {
+                violations.add(String.format(Locale.ROOT, "%s %.0f ms > %d ms", metric, actual, maxMillis));
+            }
+        });
+        return violations;
+    }
+
+    @Override
+    public String toString() {
+        return page + " " + limits + " (" + mode + ")";
+    }
+}
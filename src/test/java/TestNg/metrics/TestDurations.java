@@ -0,0 +1,98 @@
+package TestNg.metrics;
+
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * How long each test method usually takes, in milliseconds, kept in {@code shard.durations} (default
+ * {@code target/test-durations.properties}). A data-driven method counts all its invocations together.
+ * Like {@code SettleHistory}, values are exponentially weighted moving averages across runs.
+ */
+public final class TestDurations {
+
+    public static final String FILE_PROPERTY = "shard.durations";
+
+    private static final Path FILE = Paths.get(System.getProperty(FILE_PROPERTY, "target/test-durations.properties"));
+    private static final double WEIGHT = 0.3;
+    private static final Map<String, Long> HISTORY = load();
+    private static final Map<String, Long> THIS_RUN = new ConcurrentHashMap<>();
+
+    private TestDurations() {
+    }
+
+    public static String key(Class<?> testClass, String methodName) {
+        return testClass.getSimpleName() + "." + methodName;
+    }
+
+    /** Typical duration of the method, or -1 when it has never been measured. */
+    public static long typicalMillis(String key) {
+        return HISTORY.getOrDefault(key, -1L);
+    }
+
+    public static Map<String, Long> all() {
+        return Map.copyOf(HISTORY);
+    }
+
+    public static void record(ITestResult result) {
+        String key = key(result.getTestClass().getRealClass(), result.getMethod().getMethodName());
+        THIS_RUN.merge(key, Math.max(result.getEndMillis() - result.getStartMillis(), 0), Long::sum);
+    }
+
+    /**
+     * Folds this run's durations into the file. The file is re-read first, so shards running in parallel
+     * only overwrite the methods they ran.
+     */
+    public static synchronized void save() {
+        if (THIS_RUN.isEmpty()) {
+            return;
+        }
+        Map<String, Long> merged = new TreeMap<>(load());
+        THIS_RUN.forEach((key, millis) ->
+                merged.merge(key, millis, (previous, latest) -> Math.round(previous * (1 - WEIGHT) + latest * WEIGHT)));
+        Properties properties = new Properties();
+        merged.forEach((key, millis) -> properties.setProperty(key, Long.toString(millis)));
+        try {
+            Path parent = FILE.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (OutputStream out = Files.newOutputStream(FILE)) {
+                properties.store(out, "Typical duration per test method, in milliseconds");
+            }
+        } catch (IOException e) {
+            System.out.println("Could not save test durations to " + FILE + ": " + e.getMessage());
+        }
+    }
+
+    private static Map<String, Long> load() {
+        Map<String, Long> durations = new ConcurrentHashMap<>();
+        if (!Files.isRegularFile(FILE)) {
+            return durations;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(FILE)) {
+            properties.load(in);
+        } catch (IOException e) {
+            System.out.println("Could not read test durations from " + FILE + ": " + e.getMessage());
+            return durations;
+        }
+        for (String key : properties.stringPropertyNames()) {
+            try {
+                durations.put(key, Long.parseLong(properties.getProperty(key).trim()));
+            } catch (NumberFormatException ignored) {
+                // a corrupt entry is measured again
+            }
+        }
+        return durations;
+    }
+}
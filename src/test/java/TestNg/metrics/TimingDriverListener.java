@@ -0,0 +1,65 @@
+package TestNg.metrics;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Times navigation, findElement(s), click, sendKeys and executeScript calls made through an
+ * EventFiringDecorator-wrapped driver and hands the durations to {@link LatencyRecorder}.
+ */
+public class TimingDriverListener implements WebDriverListener {
+
+    private static final ThreadLocal<Deque<Long>> STARTS = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (operation(target, method) != null) {
+            STARTS.get().push(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(target, method);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(target, method);
+    }
+
+    private static void finish(Object target, Method method) {
+        String operation = operation(target, method);
+        Deque<Long> starts = STARTS.get();
+        if (operation != null && !starts.isEmpty()) {
+            LatencyRecorder.record(operation, System.nanoTime() - starts.pop());
+        }
+    }
+
+    static String operation(Object target, Method method) {
+        if (target instanceof WebDriver.Navigation) {
+            return "navigate";
+        }
+        switch (method.getName()) {
+            case "get":
+                return target instanceof WebDriver ? "navigate" : null;
+            case "findElement":
+            case "findElements":
+                return "findElement";
+            case "click":
+                return "click";
+            case "sendKeys":
+                return "sendKeys";
+            case "executeScript":
+            case "executeAsyncScript":
+                return "executeScript";
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package TestNg.money;
+
+import java.util.List;
+
+/**
+ * Checks that a checkout overview adds up, in whole cents: the item total is the sum of the item
+ * prices, the tax is the SauceDemo rate applied to the item total, and the total is item total plus tax.
+ * Nothing is allocated unless the check fails.
+ */
+public final class CheckoutMath {
+
+    /** SauceDemo charges 8% tax on the item total, rounded to the nearest cent. */
+    public static final long TAX_RATE_BASIS_POINTS = 800;
+
+    private CheckoutMath() {
+    }
+
+    public static long taxCents(long subtotalCents) {
+        return Math.floorDiv(subtotalCents * TAX_RATE_BASIS_POINTS + 5_000, 10_000);
+    }
+
+    public static long sumCents(List<? extends CharSequence> prices) {
+        long sum = 0;
+        for (int i = 0; i < prices.size(); i++) {
+            sum += Money.parseCents(prices.get(i));
+        }
+        return sum;
+    }
+
+    /**
+     * Verifies the overview labels as displayed, e.g. {@code "$29.99"} per item and
+     * {@code "Item total: $39.98"}, {@code "Tax: $3.20"} and {@code "Total: $43.18"}.
+     *
+     * @throws AssertionError naming the first figure that does not add up
+     */
+    public static void verify(List<? extends CharSequence> itemPrices, CharSequence subtotal, CharSequence tax, CharSequence total) {
+        verify(sumCents(itemPrices), Money.parseCents(subtotal), Money.parseCents(tax), Money.parseCents(total));
+    }
+
+    /**
+     * Verifies figures that are already in cents; {@code itemsCents} is the sum of the item prices.
+     *
+     * @throws AssertionError naming the first figure that does not add up
+     */
+    public static void verify(long itemsCents, long subtotalCents, long taxCents, long totalCents) {
+        if (itemsCents != subtotalCents) {
+            throw mismatch("Item total", subtotalCents, "sum of item prices", itemsCents);
+        }
+        long expectedTax = taxCents(subtotalCents);
+        if (taxCents != expectedTax) {
+            throw mismatch("Tax", taxCents, "8% of " + Money.format(subtotalCents), expectedTax);
+        }
+        if (totalCents != subtotalCents + taxCents) {
+            throw mismatch("Total", totalCents, "item total + tax", subtotalCents + taxCents);
+        }
+    }
+
+    private static AssertionError mismatch(String figure, long displayed, String expectedAs, long expected) {
+        return new AssertionError(figure + " is " + Money.format(displayed) + " but " + expectedAs + " is "
+                + Money.format(expected));
+    }
+}
@@ -0,0 +1,97 @@
+package TestNg.money;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verifies generated checkout overviews with {@link CheckoutMath} and with the split and
+ * {@code Double.parseDouble} code the checkout tests used before. Run with {@code mvn test -Pjmh};
+ * add {@code -prof gc} to the JMH arguments in the profile to compare allocations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CheckoutMathBenchmark {
+
+    // The SauceDemo catalogue prices
+    private static final long[] CATALOGUE_CENTS = {2999, 999, 1599, 4999, 799, 1599};
+
+    @Param("4096")
+    int carts;
+
+    private List<List<String>> prices;
+    private String[] subtotals;
+    private String[] taxes;
+    private String[] totals;
+    private int next;
+
+    @Setup
+    public void generateCarts() {
+        Random random = new Random(42);
+        prices = new ArrayList<>(carts);
+        subtotals = new String[carts];
+        taxes = new String[carts];
+        totals = new String[carts];
+        for (int cart = 0; cart < carts; cart++) {
+            int items = 1 + random.nextInt(CATALOGUE_CENTS.length);
+            List<String> cartPrices = new ArrayList<>(items);
+            long subtotal = 0;
+            for (int item = 0; item < items; item++) {
+                long cents = CATALOGUE_CENTS[random.nextInt(CATALOGUE_CENTS.length)];
+                cartPrices.add(Money.format(cents));
+                subtotal += cents;
+            }
+            long tax = CheckoutMath.taxCents(subtotal);
+            prices.add(cartPrices);
+            subtotals[cart] = "Item total: " + Money.format(subtotal);
+            taxes[cart] = "Tax: " + Money.format(tax);
+            totals[cart] = "Total: " + Money.format(subtotal + tax);
+        }
+    }
+
+    @Benchmark
+    public void cents() {
+        int cart = nextCart();
+        CheckoutMath.verify(prices.get(cart), subtotals[cart], taxes[cart], totals[cart]);
+    }
+
+    @Benchmark
+    public void splitAndParseDouble(Blackhole blackhole) {
+        int cart = nextCart();
+        double calculatedTotal = 0.0;
+        for (String price : prices.get(cart)) {
+            calculatedTotal += Double.parseDouble(price.replace("$", ""));
+        }
+        double itemTotal = Double.parseDouble(subtotals[cart].split("\\$")[1]);
+        double tax = Double.parseDouble(taxes[cart].split("\\$")[1]);
+        double total = Double.parseDouble(totals[cart].split("\\$")[1]);
+        if (Math.abs(calculatedTotal - itemTotal) > 0.01 || Math.abs(itemTotal + tax - total) > 0.01) {
+            throw new AssertionError("Totals do not add up for cart " + cart);
+        }
+        blackhole.consume(total);
+    }
+
+    private int nextCart() {
+        int cart = next;
+        next = cart + 1 == carts ? 0 : cart + 1;
+        return cart;
+    }
+}
@@ -0,0 +1,88 @@
+package TestNg.money;
+
+/**
+ * Dollar amounts as whole cents in a {@code long}. Parsing walks the characters once, without regex,
+ * splitting or boxing, so checking thousands of carts allocates nothing.
+ */
+public final class Money {
+
+    private Money() {
+    }
+
+    /**
+     * Parses the amount in a label such as {@code "$29.99"}, {@code "29.99"}, {@code "Tax: $3.20"} or
+     * {@code "-$1,234.5"}. The amount starts after the last {@code $}, or at the first digit when there
+     * is none, and may have thousands separators and up to two decimals.
+     *
+     * @throws NumberFormatException when there is no well-formed amount
+     */
+    public static long parseCents(CharSequence text) {
+        int length = text.length();
+        int start = -1;
+        for (int i = length - 1; i >= 0; i--) {
+            if (text.charAt(i) == '$') {
+                start = i + 1;
+                break;
+            }
+        }
+        if (start < 0) {
+            start = 0;
+            while (start < length && !isDigit(text.charAt(start))) {
+                start++;
+            }
+        }
+        boolean negative = isNegative(text, start);
+
+        long units = 0;
+        int digits = 0;
+        int i = start;
+        for (; i < length; i++) {
+            char c = text.charAt(i);
+            if (isDigit(c)) {
+                units = Math.addExact(Math.multiplyExact(units, 10), c - '0');
+                digits++;
+            } else if (c != ',' || digits == 0) {
+                break;
+            }
+        }
+        if (digits == 0) {
+            throw new NumberFormatException("No amount in \"" + text + "\"");
+        }
+
+        long cents = 0;
+        int decimals = 0;
+        if (i < length && text.charAt(i) == '.') {
+            for (i++; i < length && isDigit(text.charAt(i)); i++) {
+                if (++decimals > 2) {
+                    throw new NumberFormatException("More than two decimals in \"" + text + "\"");
+                }
+                cents = cents * 10 + (text.charAt(i) - '0');
+            }
+        }
+        if (decimals == 1) {
+            cents *= 10;
+        }
+        long amount = Math.addExact(Math.multiplyExact(units, 100), cents);
+        return negative ? -amount : amount;
+    }
+
+    /** Formats cents the way SauceDemo prints prices, e.g. {@code 3998} as {@code "$39.98"}. */
+    public static String format(long cents) {
+        long abs = Math.abs(cents);
+        long fraction = abs % 100;
+        return (cents < 0 ? "-$" : "$") + abs / 100 + (fraction < 10 ? ".0" : ".") + fraction;
+    }
+
+    // A minus sign right before the amount or before its dollar sign
+    private static boolean isNegative(CharSequence text, int start) {
+        int i = start - 1;
+        if (i >= 0 && text.charAt(i) == '$') {
+            i--;
+        }
+        return i >= 0 && text.charAt(i) == '-';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
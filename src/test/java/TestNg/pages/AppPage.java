@@ -0,0 +1,59 @@
+package TestNg.pages;
+
+import TestNg.waits.Waits;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+/**
+ * Pages behind the login share the header: hamburger menu, cart link and cart badge.
+ */
+public abstract class AppPage extends BasePage {
+
+    @FindBy(className = "shopping_cart_link")
+    private WebElement cartLink;
+
+    @FindBy(className = "shopping_cart_badge")
+    private WebElement cartBadge;
+
+    // The handler is on the inner button; clicking the wrapper only works where hit-testing forwards it
+    @FindBy(css = ".bm-burger-button button")
+    private WebElement hamburgerButton;
+
+    @FindBy(id = "logout_sidebar_link")
+    private WebElement logoutLink;
+
+    protected AppPage(WebDriver driver, WebDriverWait wait) {
+        super(driver, wait);
+    }
+
+    public String cartBadgeText() {
+        return wait.until(ExpectedConditions.visibilityOf(cartBadge)).getText();
+    }
+
+    public CartPage openCart() {
+        jsClick(wait.until(ExpectedConditions.elementToBeClickable(cartLink)));
+        wait.until(Waits.pageLoaded("cart.html"));
+        return new CartPage(driver, wait);
+    }
+
+    public WebElement openMenu() {
+        // Check if menu is already open by looking for the menu wrap visibility
+        boolean isMenuOpen = !driver.findElements(By.cssSelector(".bm-menu-wrap[style*='translateX(0px)']")).isEmpty();
+        if (!isMenuOpen) {
+            clickWithFallback(wait.until(ExpectedConditions.elementToBeClickable(hamburgerButton)));
+        }
+        return wait.until(ExpectedConditions.visibilityOf(logoutLink));
+    }
+
+    public LoginPage logout() {
+        openMenu();
+        wait.until(ExpectedConditions.elementToBeClickable(logoutLink)).click();
+        LoginPage loginPage = new LoginPage(driver, wait);
+        loginPage.waitUntilLoaded();
+        return loginPage;
+    }
+}
@@ -0,0 +1,46 @@
+package TestNg.pages;
+
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+/**
+ * Base for all page objects. {@code @FindBy} fields are resolved on first use and cached for the
+ * lifetime of the page object, so a page instance should not outlive a navigation.
+ */
+public abstract class BasePage {
+    protected final WebDriver driver;
+    protected final WebDriverWait wait;
+
+    protected BasePage(WebDriver driver, WebDriverWait wait) {
+        this.driver = driver;
+        this.wait = wait;
+        PageFactory.initElements(new CachingFieldDecorator(new CachingElementLocatorFactory(driver)), this);
+    }
+
+    public String currentUrl() {
+        return driver.getCurrentUrl();
+    }
+
+    protected void jsClick(WebElement element) {
+        ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
+    }
+
+    protected void scrollAndJsClick(WebElement element) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        js.executeScript("arguments[0].scrollIntoView(true);", element);
+        js.executeScript("arguments[0].click();", element);
+    }
+
+    // Use JavaScript click as a fallback to avoid interception
+    protected void clickWithFallback(WebElement element) {
+        try {
+            element.click();
+        } catch (ElementClickInterceptedException e) {
+            jsClick(element);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package TestNg.pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads many locator values in a single {@code executeScript} call instead of one findElement/getText
+ * round-trip per element. Keys are chosen by the caller and used to look values up in the returned
+ * {@link DomSnapshot}.
+ *
+ * <pre>
+ * DomSnapshot totals = BulkRead.from(driver)
+ *         .texts("prices", By.cssSelector(".cart_item .inventory_item_price"))
+ *         .text("subtotal", By.cssSelector(".summary_subtotal_label"))
+ *         .read();
+ * </pre>
+ */
+public final class BulkRead {
+
+    private static final String SCRIPT =
+            "function find(spec, all) {"
+                    + "  if (spec.using === 'xpath') {"
+                    + "    var result = document.evaluate(spec.value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+                    + "    var nodes = [];"
+                    + "    for (var i = 0; i < result.snapshotLength; i++) { nodes.push(result.snapshotItem(i)); }"
+                    + "    return all ? nodes : nodes.slice(0, 1);"
+                    + "  }"
+                    + "  var css = spec.using === 'id' ? '#' + CSS.escape(spec.value)"
+                    + "          : spec.using === 'class name' ? '.' + CSS.escape(spec.value)"
+                    + "          : spec.value;"
+                    + "  return all ? Array.prototype.slice.call(document.querySelectorAll(css))"
+                    + "             : [document.querySelector(css)].filter(Boolean);"
+                    + "}"
+                    + "function read(el, spec) {"
+                    + "  if (spec.attribute) { return el[spec.attribute] != null ? String(el[spec.attribute]) : el.getAttribute(spec.attribute); }"
+                    + "  return (el.innerText || el.textContent || '').trim();"
+                    + "}"
+                    + "var out = {};"
+                    + "arguments[0].forEach(function (spec) {"
+                    + "  var els = find(spec, spec.all);"
+                    + "  out[spec.key] = spec.all ? els.map(function (el) { return read(el, spec); })"
+                    + "                           : (els.length ? read(els[0], spec) : null);"
+                    + "});"
+                    + "return out;";
+
+    private static final Set<String> SUPPORTED_STRATEGIES = Set.of("css selector", "xpath", "id", "class name", "tag name");
+
+    private final WebDriver driver;
+    private final List<Map<String, Object>> specs = new ArrayList<>();
+
+    private BulkRead(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    public static BulkRead from(WebDriver driver) {
+        return new BulkRead(driver);
+    }
+
+    /** Visible text of the first element matching {@code by}, or null when there is none. */
+    public BulkRead text(String key, By by) {
+        return add(key, by, false, null);
+    }
+
+    /** Visible text of every element matching {@code by}, in document order. */
+    public BulkRead texts(String key, By by) {
+        return add(key, by, true, null);
+    }
+
+    /** Property, or attribute when there is no such property, of the first element matching {@code by}. */
+    public BulkRead attribute(String key, By by, String attribute) {
+        return add(key, by, false, attribute);
+    }
+
+    @SuppressWarnings("unchecked")
+    public DomSnapshot read() {
+        Object result = ((JavascriptExecutor) driver).executeScript(SCRIPT, specs);
+        return new DomSnapshot((Map<String, Object>) result);
+    }
+
+    private BulkRead add(String key, By by, boolean all, String attribute) {
+        Map<String, Object> spec = new LinkedHashMap<>();
+        spec.put("key", key);
+        spec.putAll(selector(by));
+        spec.put("all", all);
+        if (attribute != null) {
+            spec.put("attribute", attribute);
+        }
+        specs.add(spec);
+        return this;
+    }
+
+    private static Map<String, Object> selector(By by) {
+        if (!(by instanceof By.Remotable)) {
+            throw new IllegalArgumentException("Cannot bulk-read locator " + by);
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) by).getRemoteParameters();
+        if (!SUPPORTED_STRATEGIES.contains(parameters.using())) {
+            throw new IllegalArgumentException("Bulk reads support " + SUPPORTED_STRATEGIES + " locators, not " + by);
+        }
+        Map<String, Object> selector = new LinkedHashMap<>();
+        selector.put("using", parameters.using());
+        selector.put("value", parameters.value());
+        return selector;
+    }
+}
@@ -0,0 +1,52 @@
+package TestNg.pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.util.List;
+
+/**
+ * Resolves a locator on first use and keeps the handle until {@link #invalidate()} is called,
+ * so repeated access to the same field costs no further findElement round-trips.
+ */
+public class CachingElementLocator implements ElementLocator {
+
+    private final SearchContext searchContext;
+    private final By by;
+    private WebElement cachedElement;
+    private List<WebElement> cachedElements;
+
+    public CachingElementLocator(SearchContext searchContext, By by) {
+        this.searchContext = searchContext;
+        this.by = by;
+    }
+
+    @Override
+    public WebElement findElement() {
+        if (cachedElement == null) {
+            cachedElement = searchContext.findElement(by);
+        }
+        return cachedElement;
+    }
+
+    @Override
+    public List<WebElement> findElements() {
+        if (cachedElements == null || cachedElements.isEmpty()) {
+            // an empty result is not cached; the elements may simply not be rendered yet
+            cachedElements = searchContext.findElements(by);
+        }
+        return cachedElements;
+    }
+
+    public void invalidate() {
+        cachedElement = null;
+        cachedElements = null;
+    }
+
+    @Override
+    public String toString() {
+        return "cached " + by;
+    }
+}
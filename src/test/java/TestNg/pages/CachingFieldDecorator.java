@@ -0,0 +1,53 @@
+package TestNg.pages;
+
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.support.pagefactory.DefaultFieldDecorator;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PageFactory decorator whose proxies resolve lazily, cache the handle and heal themselves after a
+ * StaleElementReferenceException. List fields hand out one self-healing proxy per element index.
+ */
+public class CachingFieldDecorator extends DefaultFieldDecorator {
+
+    public CachingFieldDecorator(CachingElementLocatorFactory factory) {
+        super(factory);
+    }
+
+    @Override
+    protected WebElement proxyForLocator(ClassLoader loader, ElementLocator locator) {
+        return proxy(loader, new SelfHealingElementHandler((CachingElementLocator) locator));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected List<WebElement> proxyForListLocator(ClassLoader loader, ElementLocator locator) {
+        CachingElementLocator caching = (CachingElementLocator) locator;
+        InvocationHandler handler = (proxy, method, args) -> {
+            int size = caching.findElements().size();
+            List<WebElement> elements = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                elements.add(proxy(loader, new SelfHealingElementHandler(caching, i)));
+            }
+            try {
+                return method.invoke(elements, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return (List<WebElement>) Proxy.newProxyInstance(loader, new Class<?>[]{List.class}, handler);
+    }
+
+    private static WebElement proxy(ClassLoader loader, InvocationHandler handler) {
+        return (WebElement) Proxy.newProxyInstance(loader,
+                new Class<?>[]{WebElement.class, WrapsElement.class, Locatable.class}, handler);
+    }
+}
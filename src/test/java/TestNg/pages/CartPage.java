@@ -0,0 +1,35 @@
+package TestNg.pages;
+
+import TestNg.waits.Waits;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+public class CartPage extends AppPage {
+
+    @FindBy(xpath = "//a[text()='Continue Shopping']")
+    private WebElement continueShoppingButton;
+
+    @FindBy(className = "checkout_button")
+    private WebElement checkoutButton;
+
+    public CartPage(WebDriver driver, WebDriverWait wait) {
+        super(driver, wait);
+    }
+
+    /**
+     * Clicks "Continue Shopping". The caller decides how to wait for the navigation back to the inventory.
+     */
+    public InventoryPage continueShopping() {
+        scrollAndJsClick(wait.until(ExpectedConditions.elementToBeClickable(continueShoppingButton)));
+        return new InventoryPage(driver, wait);
+    }
+
+    public CheckoutStepOnePage checkout() {
+        jsClick(wait.until(ExpectedConditions.elementToBeClickable(checkoutButton)));
+        wait.until(Waits.pageLoaded("checkout-step-one.html"));
+        return new CheckoutStepOnePage(driver, wait);
+    }
+}
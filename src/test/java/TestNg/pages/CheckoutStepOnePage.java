@@ -0,0 +1,63 @@
+package TestNg.pages;
+
+import TestNg.waits.Waits;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+public class CheckoutStepOnePage extends AppPage {
+
+    @FindBy(id = "first-name")
+    private WebElement firstNameField;
+
+    @FindBy(id = "last-name")
+    private WebElement lastNameField;
+
+    @FindBy(id = "postal-code")
+    private WebElement postalCodeField;
+
+    @FindBy(css = "input.btn_primary.cart_button")
+    private WebElement continueButton;
+
+    @FindBy(css = "h3[data-test='error']")
+    private WebElement errorMessage;
+
+    public CheckoutStepOnePage(WebDriver driver, WebDriverWait wait) {
+        super(driver, wait);
+    }
+
+    public WebElement firstNameField() {
+        return firstNameField;
+    }
+
+    public WebElement lastNameField() {
+        return lastNameField;
+    }
+
+    public WebElement postalCodeField() {
+        return postalCodeField;
+    }
+
+    public CheckoutStepOnePage fillForm(String firstName, String lastName, String postalCode) {
+        firstNameField.sendKeys(firstName);
+        lastNameField.sendKeys(lastName);
+        postalCodeField.sendKeys(postalCode);
+        return this;
+    }
+
+    public void submit() {
+        jsClick(wait.until(ExpectedConditions.elementToBeClickable(continueButton)));
+    }
+
+    public CheckoutStepTwoPage continueToOverview() {
+        submit();
+        wait.until(Waits.pageLoaded("checkout-step-two.html"));
+        return new CheckoutStepTwoPage(driver, wait);
+    }
+
+    public String errorText() {
+        return wait.until(ExpectedConditions.visibilityOf(errorMessage)).getText();
+    }
+}
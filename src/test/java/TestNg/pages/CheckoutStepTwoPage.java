@@ -0,0 +1,56 @@
+package TestNg.pages;
+
+import TestNg.waits.Waits;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.util.List;
+
+public class CheckoutStepTwoPage extends AppPage {
+
+    @FindBy(className = "cart_list")
+    private WebElement cartList;
+
+    @FindBy(css = ".cart_list .cart_item")
+    private List<WebElement> cartItems;
+
+    @FindBy(css = ".summary_total_label")
+    private WebElement totalLabel;
+
+    @FindBy(css = "a.btn_action.cart_button")
+    private WebElement finishButton;
+
+    public CheckoutStepTwoPage(WebDriver driver, WebDriverWait wait) {
+        super(driver, wait);
+    }
+
+    public List<WebElement> cartItems() {
+        wait.until(ExpectedConditions.visibilityOf(cartList));
+        return cartItems;
+    }
+
+    /**
+     * Reads every price and summary label on the overview in one round-trip. Keys: {@code prices},
+     * {@code summaryValues} (lists), {@code subtotal}, {@code tax} and {@code total}.
+     */
+    public DomSnapshot summarySnapshot() {
+        wait.until(ExpectedConditions.visibilityOf(totalLabel));
+        return BulkRead.from(driver)
+                .texts("prices", By.cssSelector(".cart_item .inventory_item_price"))
+                .texts("summaryValues", By.cssSelector(".summary_value_label"))
+                .text("subtotal", By.cssSelector(".summary_subtotal_label"))
+                .text("tax", By.cssSelector(".summary_tax_label"))
+                .text("total", By.cssSelector(".summary_total_label"))
+                .read();
+    }
+
+    public CompletePage finish() {
+        jsClick(wait.until(ExpectedConditions.elementToBeClickable(finishButton)));
+        wait.until(Waits.pageLoaded("checkout-complete.html"));
+        return new CompletePage(driver, wait);
+    }
+}
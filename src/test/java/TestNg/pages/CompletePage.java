@@ -0,0 +1,21 @@
+package TestNg.pages;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+public class CompletePage extends AppPage {
+
+    @FindBy(css = "h2.complete-header")
+    private WebElement completeHeader;
+
+    public CompletePage(WebDriver driver, WebDriverWait wait) {
+        super(driver, wait);
+    }
+
+    public String headerText() {
+        return wait.until(ExpectedConditions.visibilityOf(completeHeader)).getText();
+    }
+}
@@ -0,0 +1,54 @@
+package TestNg.pages;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Values captured by one {@link BulkRead}. Nothing here talks to the browser any more.
+ */
+public final class DomSnapshot {
+
+    private final Map<String, Object> values;
+
+    DomSnapshot(Map<String, Object> values) {
+        this.values = values == null ? Collections.emptyMap() : values;
+    }
+
+    public boolean has(String key) {
+        return values.get(key) != null;
+    }
+
+    public String text(String key) {
+        Object value = require(key);
+        if (value instanceof List) {
+            throw new IllegalArgumentException("'" + key + "' was read as a list; use texts()");
+        }
+        return String.valueOf(value);
+    }
+
+    public List<String> texts(String key) {
+        Object value = require(key);
+        if (!(value instanceof List)) {
+            throw new IllegalArgumentException("'" + key + "' was read as a single value; use text()");
+        }
+        return ((List<?>) value).stream().map(String::valueOf).collect(Collectors.toList());
+    }
+
+    private Object require(String key) {
+        if (!values.containsKey(key)) {
+            throw new IllegalArgumentException("No value named '" + key + "' in snapshot " + values.keySet());
+        }
+        Object value = values.get(key);
+        if (value == null) {
+            throw new IllegalStateException("Nothing on the page matched the locator for '" + key + "'");
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "DomSnapshot" + values;
+    }
+}
@@ -0,0 +1,21 @@
+package TestNg.pages;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+public class InventoryItemPage extends AppPage {
+
+    @FindBy(className = "inventory_details_name")
+    private WebElement productName;
+
+    public InventoryItemPage(WebDriver driver, WebDriverWait wait) {
+        super(driver, wait);
+    }
+
+    public String productName() {
+        return wait.until(ExpectedConditions.visibilityOf(productName)).getText();
+    }
+}
@@ -0,0 +1,57 @@
+package TestNg.pages;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+public class InventoryPage extends AppPage {
+
+    @FindBy(id = "inventory_container")
+    private WebElement inventoryContainer;
+
+    // The class is on both the wrapper div and the img inside the link; only the img is the click target
+    @FindBy(css = "img.inventory_item_img")
+    private WebElement firstProductImage;
+
+    @FindBy(xpath = "//button[contains(text(), 'ADD TO CART')]")
+    private WebElement firstAddToCartButton;
+
+    private final ProductLocator productLocator;
+
+    public InventoryPage(WebDriver driver, WebDriverWait wait) {
+        super(driver, wait);
+        this.productLocator = new ProductLocator(driver);
+    }
+
+    public boolean isLoaded() {
+        return wait.until(ExpectedConditions.visibilityOf(inventoryContainer)).isDisplayed();
+    }
+
+    public WebElement firstProductImage() {
+        return wait.until(ExpectedConditions.elementToBeClickable(firstProductImage));
+    }
+
+    public InventoryItemPage openFirstProduct() {
+        firstProductImage().click();
+        return new InventoryItemPage(driver, wait);
+    }
+
+    /**
+     * Returns the first "ADD TO CART" button. The handle is cached, so it keeps pointing at the same
+     * product after the click turns it into "REMOVE".
+     */
+    public WebElement firstAddToCartButton() {
+        return wait.until(ExpectedConditions.elementToBeClickable(firstAddToCartButton));
+    }
+
+    public InventoryPage addToCart(String productName) {
+        WebElement cartButton = wait.until(driver -> {
+            WebElement button = productLocator.button(productName);
+            return button != null && button.isEnabled() && button.getText().contains("ADD TO CART") ? button : null;
+        });
+        jsClick(cartButton); // Use JS click for reliability
+        return this;
+    }
+}
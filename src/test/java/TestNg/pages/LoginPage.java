@@ -0,0 +1,47 @@
+package TestNg.pages;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+public class LoginPage extends BasePage {
+
+    @FindBy(id = "user-name")
+    private WebElement usernameField;
+
+    @FindBy(id = "password")
+    private WebElement passwordField;
+
+    @FindBy(id = "login-button")
+    private WebElement loginButton;
+
+    @FindBy(css = "[data-test='error']")
+    private WebElement errorMessage;
+
+    public LoginPage(WebDriver driver, WebDriverWait wait) {
+        super(driver, wait);
+    }
+
+    public LoginPage waitUntilLoaded() {
+        wait.until(ExpectedConditions.visibilityOf(usernameField));
+        return this;
+    }
+
+    public void login(String username, String password) {
+        wait.until(ExpectedConditions.visibilityOf(usernameField));
+        usernameField.clear();
+        usernameField.sendKeys(username);
+
+        wait.until(ExpectedConditions.visibilityOf(passwordField));
+        passwordField.clear();
+        passwordField.sendKeys(password);
+
+        wait.until(ExpectedConditions.elementToBeClickable(loginButton)).click();
+    }
+
+    public String errorText() {
+        return wait.until(ExpectedConditions.visibilityOf(errorMessage)).getText();
+    }
+}
@@ -0,0 +1,72 @@
+package TestNg.pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Finds inventory buttons by product name. The first lookup on a page walks the inventory once in the
+ * browser and stores a name -> button map on {@code window}; every later lookup is a single map read.
+ * The old {@code following::} XPath is only used when the index cannot be built.
+ */
+public class ProductLocator {
+
+    private static final String BUILD_INDEX =
+            "var index = {};"
+                    + "var items = document.querySelectorAll('.inventory_item');"
+                    + "for (var i = 0; i < items.length; i++) {"
+                    + "  var name = items[i].querySelector('.inventory_item_name');"
+                    + "  var button = items[i].querySelector('button');"
+                    + "  if (name && button) { index[name.textContent.trim()] = button; }"
+                    + "}"
+                    + "window.__productIndex = index;"
+                    + "return Object.keys(index).length;";
+
+    // undefined (null in Java) means the index is missing or outdated; false means no such product
+    private static final String LOOKUP =
+            "var index = window.__productIndex;"
+                    + "if (!index) { return null; }"
+                    + "var button = index[arguments[0]];"
+                    + "if (!button) { return false; }"
+                    + "return document.contains(button) ? button : null;";
+
+    private final WebDriver driver;
+
+    public ProductLocator(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    public static By addToCartXPath(String productName) {
+        return By.xpath("//div[@class='inventory_item_label'][contains(., '" + productName
+                + "')]//following::button[contains(text(), 'ADD TO CART')]");
+    }
+
+    /** Builds the index for the current page and returns how many products it holds. */
+    public int index() {
+        Object size = js().executeScript(BUILD_INDEX);
+        return size instanceof Number ? ((Number) size).intValue() : 0;
+    }
+
+    /**
+     * Returns the inventory button (ADD TO CART or REMOVE) of {@code productName}, or null when the page
+     * has no such product.
+     */
+    public WebElement button(String productName) {
+        Object found = js().executeScript(LOOKUP, productName);
+        if (found == null && index() > 0) {
+            found = js().executeScript(LOOKUP, productName);
+        }
+        if (found instanceof WebElement) {
+            return (WebElement) found;
+        }
+        if (Boolean.FALSE.equals(found)) {
+            return null;
+        }
+        return driver.findElements(addToCartXPath(productName)).stream().findFirst().orElse(null);
+    }
+
+    private JavascriptExecutor js() {
+        return (JavascriptExecutor) driver;
+    }
+}
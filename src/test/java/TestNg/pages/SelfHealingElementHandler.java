@@ -0,0 +1,54 @@
+package TestNg.pages;
+
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Backs a page object's element proxy. Calls go to the cached handle; if the page re-rendered and the
+ * handle went stale, the cache is dropped and the call is retried once against a freshly located element.
+ */
+class SelfHealingElementHandler implements InvocationHandler {
+
+    private final CachingElementLocator locator;
+    private final int index;
+
+    SelfHealingElementHandler(CachingElementLocator locator) {
+        this(locator, -1);
+    }
+
+    SelfHealingElementHandler(CachingElementLocator locator, int index) {
+        this.locator = locator;
+        this.index = index;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if ("toString".equals(method.getName()) && method.getParameterCount() == 0) {
+            return index < 0 ? "Proxy element for: " + locator : "Proxy element [" + index + "] for: " + locator;
+        }
+        if ("getWrappedElement".equals(method.getName())) {
+            return resolve();
+        }
+        try {
+            return method.invoke(resolve(), args);
+        } catch (InvocationTargetException e) {
+            if (!(e.getCause() instanceof StaleElementReferenceException)) {
+                throw e.getCause();
+            }
+        }
+        locator.invalidate();
+        try {
+            return method.invoke(resolve(), args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private WebElement resolve() {
+        return index < 0 ? locator.findElement() : locator.findElements().get(index);
+    }
+}
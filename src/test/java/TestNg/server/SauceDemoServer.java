@@ -0,0 +1,158 @@
+package TestNg.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Serves the SauceDemo v1 stand-in pages from {@code /saucedemo} on the test classpath using the JDK's
+ * built-in HttpServer, so the suite can run offline and without internet latency. Files are read once
+ * and then served from memory.
+ *
+ * <p>Requests for the inventory made with the {@code performance_glitch_user} session are answered only
+ * after {@code glitchDelayMillis}. The real site serves the page at once and is slow in its scripts; the
+ * stand-in delays the response instead, so the HTTP load runner sees the glitch too, and in the browser
+ * it shows up as time to first byte rather than after the page arrived.
+ */
+public final class SauceDemoServer implements AutoCloseable {
+
+    private static final String RESOURCE_ROOT = "/saucedemo";
+    private static final String NODELAY_PROPERTY = "sun.net.httpserver.nodelay";
+    private static final String GLITCH_USER_COOKIE = "session-username=performance_glitch_user";
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "html", "text/html; charset=utf-8",
+            "js", "application/javascript; charset=utf-8",
+            "css", "text/css; charset=utf-8",
+            "svg", "image/svg+xml",
+            "png", "image/png",
+            "jpg", "image/jpeg",
+            "ico", "image/x-icon");
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long glitchDelayMillis;
+    private final Map<String, Optional<byte[]>> cache = new ConcurrentHashMap<>();
+
+    private SauceDemoServer(HttpServer server, ExecutorService executor, long glitchDelayMillis) {
+        this.server = server;
+        this.executor = executor;
+        this.glitchDelayMillis = glitchDelayMillis;
+    }
+
+    /**
+     * Starts a server on {@code port} (0 picks a free port) bound to the loopback interface.
+     */
+    public static SauceDemoServer start(int port, long glitchDelayMillis) throws IOException {
+        // The server writes headers and body separately; with Nagle on, every response waits ~40 ms for a
+        // delayed ACK. Read once by the JDK when the first server is created.
+        if (System.getProperty(NODELAY_PROPERTY) == null) {
+            System.setProperty(NODELAY_PROPERTY, "true");
+        }
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "saucedemo-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        SauceDemoServer sauceDemo = new SauceDemoServer(server, executor, glitchDelayMillis);
+        server.createContext("/", sauceDemo::handle);
+        server.setExecutor(executor);
+        server.start();
+        return sauceDemo;
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    public String origin() {
+        return "http://localhost:" + port();
+    }
+
+    /** URL of the login page, the equivalent of https://www.saucedemo.com/v1/index.html. */
+    public String baseUrl() {
+        return origin() + "/v1/index.html";
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod()) && !"HEAD".equals(exchange.getRequestMethod())) {
+                send(exchange, 405, "text/plain", "Method Not Allowed".getBytes());
+                return;
+            }
+            String path = exchange.getRequestURI().getPath();
+            if (path.equals("/") || path.equals("/v1") || path.equals("/v1/")) {
+                exchange.getResponseHeaders().set("Location", "/v1/index.html");
+                send(exchange, 302, "text/plain", new byte[0]);
+                return;
+            }
+            if (path.contains("..")) {
+                send(exchange, 400, "text/plain", "Bad Request".getBytes());
+                return;
+            }
+            Optional<byte[]> body = cache.computeIfAbsent(path, SauceDemoServer::load);
+            if (body.isEmpty()) {
+                send(exchange, 404, "text/plain", ("Not Found: " + path).getBytes());
+                return;
+            }
+            if (path.endsWith("/inventory.html") && isGlitchUser(exchange)) {
+                Thread.sleep(glitchDelayMillis);
+            }
+            send(exchange, 200, contentType(path), body.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean isGlitchUser(HttpExchange exchange) {
+        String cookies = exchange.getRequestHeaders().getFirst("Cookie");
+        return cookies != null && cookies.contains(GLITCH_USER_COOKIE);
+    }
+
+    private static Optional<byte[]> load(String path) {
+        try (InputStream in = SauceDemoServer.class.getResourceAsStream(RESOURCE_ROOT + path)) {
+            if (in == null) {
+                return Optional.empty();
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            in.transferTo(out);
+            return Optional.of(out.toByteArray());
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String contentType(String path) {
+        String extension = path.substring(path.lastIndexOf('.') + 1);
+        return CONTENT_TYPES.getOrDefault(extension, "application/octet-stream");
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        boolean head = "HEAD".equals(exchange.getRequestMethod());
+        exchange.sendResponseHeaders(status, head || body.length == 0 ? -1 : body.length);
+        if (!head && body.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package TestNg.waits;
+
+import TestNg.metrics.LatencyRecorder;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * A WebDriverWait that polls tightly at first and backs off exponentially, instead of sleeping a flat
+ * 500 ms between checks. When {@link SettleHistory} knows how long a condition usually takes, the wait
+ * skips the polls that would almost certainly fail and starts polling just before that point.
+ *
+ * <p>{@link EventCondition}s do not poll at all when the browser has BiDi {@link BrowserEvents}: the wait
+ * blocks until an event makes the condition true.
+ */
+public class AdaptiveWait extends WebDriverWait {
+
+    private final Duration initialPoll;
+    private final Duration maxPoll;
+    private final BrowserEvents events;
+
+    public AdaptiveWait(WebDriver driver, Duration timeout, Duration initialPoll, Duration maxPoll) {
+        super(driver, timeout);
+        this.initialPoll = initialPoll;
+        this.maxPoll = maxPoll;
+        this.events = BrowserEvents.of(driver);
+        ignoring(NotFoundException.class, StaleElementReferenceException.class);
+    }
+
+    @Override
+    public <V> V until(java.util.function.Function<? super WebDriver, V> isTrue) {
+        if (events != null && isTrue instanceof EventCondition) {
+            @SuppressWarnings("unchecked")
+            V value = (V) untilEvent((EventCondition) isTrue);
+            return value;
+        }
+        String key = learnableKey(isTrue);
+        Instant start = clock.instant();
+        Instant end = start.plus(timeout);
+        long typical = key == null ? -1 : SettleHistory.typicalSettleMillis(key);
+        long interval = initialPoll.toMillis();
+        boolean firstPoll = true;
+        Throwable lastException;
+
+        while (true) {
+            try {
+                V value = isTrue.apply(input);
+                if (value != null && (Boolean.class != value.getClass() || Boolean.TRUE.equals(value))) {
+                    Duration settled = Duration.between(start, clock.instant());
+                    LatencyRecorder.record("wait", settled.toNanos());
+                    if (key != null) {
+                        SettleHistory.record(key, settled.toMillis());
+                    }
+                    return value;
+                }
+                lastException = null;
+            } catch (Throwable e) {
+                lastException = propagateIfNotIgnored(e);
+            }
+
+            Instant now = clock.instant();
+            if (now.isAfter(end)) {
+                String message = messageSupplier != null ? messageSupplier.get() : null;
+                String timeoutMessage = String.format("Expected condition failed: %s (tried for %d ms with adaptive polling)",
+                        message == null ? "waiting for " + isTrue : message, timeout.toMillis());
+                LatencyRecorder.record("wait", Duration.between(start, now).toNanos());
+                throw timeoutException(timeoutMessage, lastException);
+            }
+
+            long sleep;
+            if (firstPoll && typical > 0) {
+                // Jump to shortly before the usual settle time rather than polling all the way there
+                sleep = Math.max(typical * 8 / 10 - Duration.between(start, now).toMillis(), interval);
+            } else {
+                sleep = interval;
+                interval = Math.min(interval * 2, maxPoll.toMillis());
+            }
+            firstPoll = false;
+            sleep = Math.min(sleep, Math.max(Duration.between(now, end).toMillis(), 1));
+            try {
+                sleeper.sleep(Duration.ofMillis(sleep));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new WebDriverException(e);
+            }
+        }
+    }
+
+    private Boolean untilEvent(EventCondition condition) {
+        Instant start = clock.instant();
+        boolean met;
+        try {
+            // Before the first event the state says nothing about the page, so ask the browser once.
+            // After a timeout ask once more, in case an event was lost.
+            met = events.await(condition, Duration.ZERO)
+                    || (!events.observed() && checkOnce(condition))
+                    || events.await(condition, timeout)
+                    || checkOnce(condition);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException(e);
+        }
+        Duration waited = Duration.between(start, clock.instant());
+        LatencyRecorder.record("wait", waited.toNanos());
+        if (!met) {
+            String message = messageSupplier != null ? messageSupplier.get() : null;
+            throw timeoutException(String.format("Expected condition failed: %s (waited %d ms for BiDi events, %s)",
+                    message == null ? "waiting for " + condition : message, timeout.toMillis(), events), null);
+        }
+        Waits.recordEventWait();
+        return Boolean.TRUE;
+    }
+
+    private boolean checkOnce(EventCondition condition) {
+        try {
+            return Boolean.TRUE.equals(condition.apply(input));
+        } catch (Throwable e) {
+            propagateIfNotIgnored(e);
+            return false;
+        }
+    }
+
+    private Throwable propagateIfNotIgnored(Throwable e) {
+        for (Class<? extends Throwable> ignored : ignoredExceptions) {
+            if (ignored.isInstance(e)) {
+                return e;
+            }
+        }
+        if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        throw new WebDriverException(e);
+    }
+
+    // Selenium's ExpectedConditions describe themselves by locator, which is stable across runs; lambdas
+    // have no stable description, so there is nothing to learn under
+    private static String learnableKey(Object condition) {
+        if (condition instanceof LearnableCondition) {
+            return ((LearnableCondition) condition).settleKey();
+        }
+        String key = condition.toString();
+        return key.contains("$$Lambda") ? null : key;
+    }
+}
@@ -0,0 +1,221 @@
+package TestNg.waits;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.bidi.browsingcontext.NavigationInfo;
+import org.openqa.selenium.bidi.log.GenericLogEntry;
+import org.openqa.selenium.bidi.module.BrowsingContextInspector;
+import org.openqa.selenium.bidi.module.LogInspector;
+import org.openqa.selenium.bidi.module.Network;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What one browser's top-level page is doing, kept current by WebDriver BiDi events instead of asked
+ * for over HTTP: navigation started, DOMContentLoaded and load, network requests in flight, and the
+ * recent console output. Waits block on this object and wake up the moment an event arrives.
+ *
+ * <p>Needs the {@code webSocketUrl} capability, which {@code BrowserProfile} requests unless
+ * {@code -Dwait.bidi=false}. {@link #of} returns null for drivers without a BiDi connection.
+ */
+public final class BrowserEvents {
+
+    public static final String PROPERTY = "wait.bidi";
+
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty(PROPERTY, "true"));
+    private static final int CONSOLE_LIMIT = 200;
+    // Conditions with a quiet period (network idle) are re-evaluated locally at this interval
+    private static final long RECHECK_MILLIS = 25;
+
+    // Values never reference the driver, so entries go away with the driver
+    private static final Map<WebDriver, BrowserEvents> ATTACHED = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private String navigatingTo;
+    private String domContentLoadedUrl;
+    private String loadedUrl;
+    private String loadedNavigation;
+    private long lastPageEventMillis;
+    private boolean observed;
+    private final Set<String> inFlight = new HashSet<>();
+    private long lastNetworkNanos = System.nanoTime();
+    private final Deque<String> console = new ArrayDeque<>();
+
+    private BrowserEvents() {
+    }
+
+    public static boolean enabled() {
+        return ENABLED;
+    }
+
+    /**
+     * The event state of {@code driver}'s current window, subscribing on first use. Null when BiDi is
+     * disabled or the driver has no BiDi connection.
+     */
+    public static BrowserEvents of(WebDriver driver) {
+        if (!ENABLED || !(driver instanceof HasBiDi) || ((HasBiDi) driver).maybeGetBiDi().isEmpty()) {
+            return null;
+        }
+        synchronized (ATTACHED) {
+            if (ATTACHED.containsKey(driver)) {
+                return ATTACHED.get(driver);
+            }
+            BrowserEvents events = subscribe(driver);
+            ATTACHED.put(driver, events);
+            return events;
+        }
+    }
+
+    private static BrowserEvents subscribe(WebDriver driver) {
+        BrowserEvents events = new BrowserEvents();
+        try {
+            String context = driver.getWindowHandle();
+            // The modules only register listeners on the driver's BiDi connection, which is closed on quit
+            BrowsingContextInspector pages = new BrowsingContextInspector(context, driver);
+            pages.onNavigationStarted(events::navigationStarted);
+            pages.onDomContentLoaded(events::domContentLoaded);
+            pages.onBrowsingContextLoaded(events::loaded);
+            Network network = new Network(context, driver);
+            network.onBeforeRequestSent(request -> events.requestSent(request.getRequest().getRequestId()));
+            network.onResponseCompleted(response -> events.requestDone(response.getRequest().getRequestId()));
+            network.onFetchError(error -> events.requestDone(error.getRequest().getRequestId()));
+            LogInspector logs = new LogInspector(context, driver);
+            logs.onConsoleEntry(events::log);
+            logs.onJavaScriptException(events::log);
+            return events;
+        } catch (WebDriverException e) {
+            System.out.println("BiDi events unavailable, waits fall back to polling: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /** URL of the last page that fired {@code load}, or null while a navigation is in progress. */
+    public synchronized String loadedUrl() {
+        return loadedUrl;
+    }
+
+    public synchronized String domContentLoadedUrl() {
+        return domContentLoadedUrl;
+    }
+
+    /** Whether any page event arrived yet; until then the state says nothing about the current page. */
+    public synchronized boolean observed() {
+        return observed;
+    }
+
+    public synchronized int requestsInFlight() {
+        return inFlight.size();
+    }
+
+    public synchronized long millisSinceNetworkActivity() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastNetworkNanos);
+    }
+
+    /** The most recent console messages and uncaught exceptions, oldest first, as "level: text". */
+    public synchronized List<String> consoleLog() {
+        return new ArrayList<>(console);
+    }
+
+    /**
+     * Blocks until {@code condition} matches the event state or {@code timeout} passes. Returns whether it
+     * matched.
+     */
+    synchronized boolean await(EventCondition condition, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (!condition.matches(this)) {
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remaining <= 0) {
+                return false;
+            }
+            wait(Math.min(remaining, RECHECK_MILLIS));
+        }
+        return true;
+    }
+
+    // Event callbacks may be delivered out of order, so anything older than the last applied page
+    // event, or a late "started" for a navigation that already loaded, is ignored
+    private synchronized void navigationStarted(NavigationInfo info) {
+        if (stale(info) || Objects.equals(info.getNavigationId(), loadedNavigation)) {
+            return;
+        }
+        navigatingTo = info.getUrl();
+        domContentLoadedUrl = null;
+        loadedUrl = null;
+        // Requests of the old page that never completed would otherwise keep the network busy for good
+        inFlight.clear();
+        changed();
+    }
+
+    private synchronized void domContentLoaded(NavigationInfo info) {
+        if (stale(info)) {
+            return;
+        }
+        domContentLoadedUrl = info.getUrl();
+        changed();
+    }
+
+    private synchronized void loaded(NavigationInfo info) {
+        if (stale(info)) {
+            return;
+        }
+        navigatingTo = null;
+        domContentLoadedUrl = info.getUrl();
+        loadedUrl = info.getUrl();
+        loadedNavigation = info.getNavigationId();
+        changed();
+    }
+
+    private boolean stale(NavigationInfo info) {
+        if (info.getTimestamp() < lastPageEventMillis) {
+            return true;
+        }
+        lastPageEventMillis = info.getTimestamp();
+        observed = true;
+        return false;
+    }
+
+    // A redirected request is sent once per hop under the same id but completes only once, so the ids
+    // form a set rather than a count
+    private synchronized void requestSent(String requestId) {
+        inFlight.add(requestId);
+        networkActivity();
+    }
+
+    private synchronized void requestDone(String requestId) {
+        inFlight.remove(requestId);
+        networkActivity();
+    }
+
+    private void networkActivity() {
+        lastNetworkNanos = System.nanoTime();
+        changed();
+    }
+
+    private synchronized void log(GenericLogEntry entry) {
+        if (console.size() == CONSOLE_LIMIT) {
+            console.removeFirst();
+        }
+        console.addLast(entry.getLevel() + ": " + entry.getText());
+    }
+
+    private void changed() {
+        notifyAll();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "page " + (loadedUrl != null ? "loaded " + loadedUrl : "navigating to " + navigatingTo)
+                + ", " + requestsInFlight() + " request(s) in flight";
+    }
+}
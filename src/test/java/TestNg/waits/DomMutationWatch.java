@@ -0,0 +1,95 @@
+package TestNg.waits;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A MutationObserver installed in the page that counts changes under one element. The counter lives in
+ * the page, so polling it is a single cheap script call and no change between polls is missed.
+ */
+public final class DomMutationWatch {
+
+    private static final AtomicInteger IDS = new AtomicInteger();
+
+    private final String key;
+    private final String cssSelector;
+
+    private DomMutationWatch(String key, String cssSelector) {
+        this.key = key;
+        this.cssSelector = cssSelector;
+    }
+
+    static DomMutationWatch arm(WebDriver driver, String cssSelector) {
+        String key = "w" + IDS.incrementAndGet();
+        Object armed = Waits.js(driver).executeScript(
+                "var target = document.querySelector(arguments[1]);"
+                        + "if (!target) { return false; }"
+                        + "var watches = window.__domWatches = window.__domWatches || {};"
+                        + "var state = watches[arguments[0]] = { count: 0, last: 0 };"
+                        + "new MutationObserver(function (records) {"
+                        + "  state.count += records.length;"
+                        + "  state.last = performance.now();"
+                        + "}).observe(target, { childList: true, subtree: true, attributes: true, characterData: true });"
+                        + "return true;",
+                key, cssSelector);
+        if (!Boolean.TRUE.equals(armed)) {
+            throw new IllegalStateException("No element matches " + cssSelector + " to watch for mutations");
+        }
+        return new DomMutationWatch(key, cssSelector);
+    }
+
+    /**
+     * True once at least one mutation was observed. Becomes false forever if the page navigated away,
+     * because the observer is gone with the old document.
+     */
+    public ExpectedCondition<Boolean> mutated() {
+        return new LearnableCondition() {
+            @Override
+            public Boolean apply(WebDriver driver) {
+                Object count = Waits.js(driver).executeScript(
+                        "var w = window.__domWatches && window.__domWatches[arguments[0]];"
+                                + "return w ? w.count : 0;", key);
+                return count instanceof Number && ((Number) count).longValue() > 0;
+            }
+
+            @Override
+            public String toString() {
+                return "DOM mutation " + key;
+            }
+
+            @Override
+            public String settleKey() {
+                return "DOM mutation under " + cssSelector;
+            }
+        };
+    }
+
+    /**
+     * True once at least one mutation was observed and none happened for {@code quiet} since.
+     */
+    public ExpectedCondition<Boolean> settled(Duration quiet) {
+        return new LearnableCondition() {
+            @Override
+            public Boolean apply(WebDriver driver) {
+                Object settled = Waits.js(driver).executeScript(
+                        "var w = window.__domWatches && window.__domWatches[arguments[0]];"
+                                + "return !!w && w.count > 0 && performance.now() - w.last >= arguments[1];",
+                        key, quiet.toMillis());
+                return Boolean.TRUE.equals(settled);
+            }
+
+            @Override
+            public String toString() {
+                return "DOM " + key + " to settle for " + quiet.toMillis() + " ms";
+            }
+
+            @Override
+            public String settleKey() {
+                return "DOM under " + cssSelector + " to settle for " + quiet.toMillis() + " ms";
+            }
+        };
+    }
+}
@@ -0,0 +1,12 @@
+package TestNg.waits;
+
+/**
+ * A wait condition that can also be decided from the browser's BiDi events alone. {@link AdaptiveWait}
+ * blocks on {@link BrowserEvents} for these when the browser has a BiDi connection, and polls
+ * {@link #apply} over the classic protocol when it has not (HtmlUnit, or {@code -Dwait.bidi=false}).
+ */
+public interface EventCondition extends LearnableCondition {
+
+    /** Decides the condition from the event state only, without talking to the browser. */
+    boolean matches(BrowserEvents events);
+}
@@ -0,0 +1,14 @@
+package TestNg.waits;
+
+import org.openqa.selenium.support.ui.ExpectedCondition;
+
+/**
+ * A wait condition whose settle time {@link SettleHistory} can learn across runs. Its description may
+ * name run-specific values such as the URL it started from; the settle key names only what is waited
+ * for, so every wait for the same page or element shares one history entry.
+ */
+public interface LearnableCondition extends ExpectedCondition<Boolean> {
+
+    /** What the condition waits for, without URLs, session ids or counters that change between runs. */
+    String settleKey();
+}
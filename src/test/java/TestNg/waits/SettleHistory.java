@@ -0,0 +1,77 @@
+package TestNg.waits;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers how long each wait condition usually takes to become true, keyed by the
+ * {@link LearnableCondition#settleKey() settle key} of the suite's own conditions and by the description
+ * (which includes the locator) of Selenium's. Values are exponentially weighted moving averages in
+ * milliseconds, persisted to {@code wait.history} (default {@code target/wait-history.properties})
+ * so the next run starts with what this one learned.
+ */
+public final class SettleHistory {
+
+    public static final String FILE_PROPERTY = "wait.history";
+
+    private static final Path FILE = Paths.get(System.getProperty(FILE_PROPERTY, "target/wait-history.properties"));
+    private static final double WEIGHT = 0.3;
+    private static final Map<String, Long> SETTLE_MILLIS = load();
+
+    private SettleHistory() {
+    }
+
+    public static long typicalSettleMillis(String key) {
+        return SETTLE_MILLIS.getOrDefault(key, -1L);
+    }
+
+    public static void record(String key, long millis) {
+        SETTLE_MILLIS.merge(key, millis, (previous, latest) -> Math.round(previous * (1 - WEIGHT) + latest * WEIGHT));
+    }
+
+    public static void save() {
+        Properties properties = new Properties();
+        new TreeMap<>(SETTLE_MILLIS).forEach((key, millis) -> properties.setProperty(key, Long.toString(millis)));
+        try {
+            Path parent = FILE.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (OutputStream out = Files.newOutputStream(FILE)) {
+                properties.store(out, "Typical settle time per wait condition, in milliseconds");
+            }
+        } catch (IOException e) {
+            System.out.println("Could not save wait history to " + FILE + ": " + e.getMessage());
+        }
+    }
+
+    private static Map<String, Long> load() {
+        Map<String, Long> history = new ConcurrentHashMap<>();
+        if (!Files.isRegularFile(FILE)) {
+            return history;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(FILE)) {
+            properties.load(in);
+        } catch (IOException e) {
+            System.out.println("Could not read wait history from " + FILE + ": " + e.getMessage());
+            return history;
+        }
+        for (String key : properties.stringPropertyNames()) {
+            try {
+                history.put(key, Long.parseLong(properties.getProperty(key).trim()));
+            } catch (NumberFormatException ignored) {
+                // a corrupt entry is simply relearned
+            }
+        }
+        return history;
+    }
+}
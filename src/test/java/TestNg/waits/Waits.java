@@ -0,0 +1,226 @@
+package TestNg.waits;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Event-driven replacements for fixed {@code Thread.sleep} calls. Every condition here returns as soon
+ * as the page reaches the expected state instead of burning a fixed delay.
+ *
+ * <p>All waits come from {@link #forDriver}, which builds an {@link AdaptiveWait}: it first polls every
+ * {@code wait.pollMs} (15 ms), backs off exponentially up to {@code wait.maxPollMs} (250 ms), and learns
+ * each condition's usual settle time across runs. The navigation and network conditions are
+ * {@link EventCondition}s: on a browser with BiDi they complete on the page's own events, with no polling.
+ */
+public final class Waits {
+
+    public static final String POLL_PROPERTY = "wait.pollMs";
+    public static final String MAX_POLL_PROPERTY = "wait.maxPollMs";
+
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration INITIAL_POLL = Duration.ofMillis(Long.getLong(POLL_PROPERTY, 15));
+    private static final Duration MAX_POLL = Duration.ofMillis(Long.getLong(MAX_POLL_PROPERTY, 250));
+
+    private static final AtomicLong MEASURED_WAITS = new AtomicLong();
+    private static final AtomicLong SAVED_MILLIS = new AtomicLong();
+    private static final AtomicLong EVENT_WAITS = new AtomicLong();
+
+    private Waits() {
+    }
+
+    public static WebDriverWait forDriver(WebDriver driver) {
+        return forDriver(driver, DEFAULT_TIMEOUT);
+    }
+
+    public static WebDriverWait forDriver(WebDriver driver, Duration timeout) {
+        return new AdaptiveWait(driver, timeout, INITIAL_POLL, MAX_POLL);
+    }
+
+    /**
+     * True once the URL has moved away from {@code fromUrl} and contains {@code fragment}.
+     */
+    public static ExpectedCondition<Boolean> urlTransition(String fromUrl, String fragment) {
+        return new LearnableCondition() {
+            @Override
+            public Boolean apply(WebDriver driver) {
+                String url = driver.getCurrentUrl();
+                return url != null && !url.equals(fromUrl) && url.contains(fragment);
+            }
+
+            @Override
+            public String toString() {
+                return "url to change from " + fromUrl + " to one containing " + fragment;
+            }
+
+            @Override
+            public String settleKey() {
+                return "url change to " + fragment;
+            }
+        };
+    }
+
+    public static ExpectedCondition<Boolean> documentReady() {
+        return new EventCondition() {
+            @Override
+            public Boolean apply(WebDriver driver) {
+                return "complete".equals(js(driver).executeScript("return document.readyState;"));
+            }
+
+            @Override
+            public boolean matches(BrowserEvents events) {
+                return events.loadedUrl() != null;
+            }
+
+            @Override
+            public String toString() {
+                return "document.readyState to be complete";
+            }
+
+            @Override
+            public String settleKey() {
+                return "document ready";
+            }
+        };
+    }
+
+    /**
+     * True when the document has finished loading and no resource has completed for {@code quiet}.
+     * Resource timings are the only network signal that survives a full page navigation; with BiDi the
+     * requests in flight are counted directly.
+     */
+    public static ExpectedCondition<Boolean> networkIdle(Duration quiet) {
+        return new EventCondition() {
+            @Override
+            public Boolean apply(WebDriver driver) {
+                Object idle = js(driver).executeScript(
+                        "if (document.readyState !== 'complete') { return false; }"
+                                + "var last = 0;"
+                                + "performance.getEntriesByType('resource').forEach(function (e) {"
+                                + "  last = Math.max(last, e.responseEnd);"
+                                + "});"
+                                + "return performance.now() - last >= arguments[0];",
+                        quiet.toMillis());
+                return Boolean.TRUE.equals(idle);
+            }
+
+            @Override
+            public boolean matches(BrowserEvents events) {
+                return events.loadedUrl() != null && events.requestsInFlight() == 0
+                        && events.millisSinceNetworkActivity() >= quiet.toMillis();
+            }
+
+            @Override
+            public String toString() {
+                return "network to be idle for " + quiet.toMillis() + " ms";
+            }
+
+            @Override
+            public String settleKey() {
+                return "network idle for " + quiet.toMillis() + " ms";
+            }
+        };
+    }
+
+    /**
+     * Composite wait for a page navigation: the URL changed to the target page and the new document
+     * finished loading.
+     */
+    public static ExpectedCondition<Boolean> navigatedTo(String fromUrl, String fragment) {
+        return new EventCondition() {
+            @Override
+            public Boolean apply(WebDriver driver) {
+                return urlTransition(fromUrl, fragment).apply(driver) && documentReady().apply(driver);
+            }
+
+            @Override
+            public boolean matches(BrowserEvents events) {
+                String url = events.loadedUrl();
+                return url != null && !url.equals(fromUrl) && url.contains(fragment);
+            }
+
+            @Override
+            public String toString() {
+                return "navigation from " + fromUrl + " to a page containing " + fragment;
+            }
+
+            @Override
+            public String settleKey() {
+                return "navigation to " + fragment;
+            }
+        };
+    }
+
+    /**
+     * True once a page whose URL contains {@code fragment} finished loading. For navigations to a
+     * different page, where the starting URL cannot match.
+     */
+    public static ExpectedCondition<Boolean> pageLoaded(String fragment) {
+        return new EventCondition() {
+            @Override
+            public Boolean apply(WebDriver driver) {
+                String url = driver.getCurrentUrl();
+                return url != null && url.contains(fragment) && documentReady().apply(driver);
+            }
+
+            @Override
+            public boolean matches(BrowserEvents events) {
+                String url = events.loadedUrl();
+                return url != null && url.contains(fragment);
+            }
+
+            @Override
+            public String toString() {
+                return "page containing " + fragment + " to load";
+            }
+
+            @Override
+            public String settleKey() {
+                return "page load of " + fragment;
+            }
+        };
+    }
+
+    /**
+     * Arms a MutationObserver on the first element matching {@code cssSelector}. Arm it before the action
+     * that should change the DOM, then wait on {@link DomMutationWatch#mutated()}.
+     */
+    public static DomMutationWatch watchDom(WebDriver driver, String cssSelector) {
+        return DomMutationWatch.arm(driver, cssSelector);
+    }
+
+    /**
+     * Waits for {@code condition} and reports how long it actually took compared with the fixed sleep it
+     * replaces.
+     */
+    public static <T> T timed(String label, WebDriverWait wait, Function<? super WebDriver, T> condition, Duration replacedSleep) {
+        long start = System.nanoTime();
+        T result = wait.until(condition);
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        long saved = Math.max(replacedSleep.toMillis() - elapsed, 0);
+        MEASURED_WAITS.incrementAndGet();
+        SAVED_MILLIS.addAndGet(saved);
+        System.out.println("Waited " + elapsed + " ms for " + label + " (saved " + saved + " ms over a fixed "
+                + replacedSleep.toMillis() + " ms sleep)");
+        return result;
+    }
+
+    static void recordEventWait() {
+        EVENT_WAITS.incrementAndGet();
+    }
+
+    public static String summary() {
+        return String.format("Event-driven waits: %d measured, ~%d ms saved over fixed sleeps, %d completed on BiDi events without polling",
+                MEASURED_WAITS.get(), SAVED_MILLIS.get(), EVENT_WAITS.get());
+    }
+
+    static JavascriptExecutor js(WebDriver driver) {
+        return (JavascriptExecutor) driver;
+    }
+}
@@ -0,0 +1,330 @@
+/*
+ * Behaviour of the SauceDemo v1 pages the test suite relies on: login, session cookie, inventory,
+ * cart in localStorage ("cart-contents"), checkout form validation and the order summary.
+ * Written in ES5 so it also runs in HtmlUnit.
+ */
+var SauceDemo = (function () {
+    var PASSWORD = 'secret_sauce';
+    var USERS = ['standard_user', 'locked_out_user', 'problem_user', 'performance_glitch_user'];
+    var SESSION_COOKIE = 'session-username';
+    var CART_KEY = 'cart-contents';
+    var TAX_RATE = 0.08;
+
+    var PRODUCTS = [
+        {id: 4, name: 'Sauce Labs Backpack', price: 29.99, image: 'sauce-backpack',
+            desc: 'carry.allTheThings() with the sleek, streamlined Sly Pack that melds uncompromising style with unequaled laptop and tablet protection.'},
+        {id: 0, name: 'Sauce Labs Bike Light', price: 9.99, image: 'bike-light',
+            desc: "A red light isn't the desired state in testing but it sure helps when riding your bike at night. Water-resistant with 3 lighting modes, 1 AAA battery included."},
+        {id: 1, name: 'Sauce Labs Bolt T-Shirt', price: 15.99, image: 'bolt-shirt',
+            desc: 'Get your testing superhero on with the Sauce Labs bolt T-shirt. From American Apparel, 100% ringspun combed cotton, heather gray with red bolt.'},
+        {id: 5, name: 'Sauce Labs Fleece Jacket', price: 49.99, image: 'sauce-pullover',
+            desc: "It's not every day that you come across a midweight quarter-zip fleece jacket capable of handling everything from a relaxing day outdoors to a busy day at the office."},
+        {id: 2, name: 'Sauce Labs Onesie', price: 7.99, image: 'red-onesie',
+            desc: "Rib snap infant onesie for the junior automation engineer in development. Reinforced 3-snap bottom closure, two-needle hemmed sleeved and bottom won't unravel."},
+        {id: 3, name: 'Test.allTheThings() T-Shirt (Red)', price: 15.99, image: 'red-tatt',
+            desc: 'This classic Sauce Labs t-shirt is perfect to wear when cozying up to your keyboard to automate a few tests. Super-soft and comfy ringspun combed cotton.'}
+    ];
+
+    function byId(id) {
+        return document.getElementById(id);
+    }
+
+    function product(id) {
+        for (var i = 0; i < PRODUCTS.length; i++) {
+            if (PRODUCTS[i].id === id) {
+                return PRODUCTS[i];
+            }
+        }
+        return null;
+    }
+
+    function money(value) {
+        return '$' + value.toFixed(2);
+    }
+
+    function escapeHtml(text) {
+        return String(text).replace(/&/g, '&amp;').replace(/</g, '&lt;').replace(/>/g, '&gt;').replace(/"/g, '&quot;');
+    }
+
+    function sessionUser() {
+        var cookies = document.cookie ? document.cookie.split('; ') : [];
+        for (var i = 0; i < cookies.length; i++) {
+            var eq = cookies[i].indexOf('=');
+            if (cookies[i].substring(0, eq) === SESSION_COOKIE) {
+                return decodeURIComponent(cookies[i].substring(eq + 1));
+            }
+        }
+        return null;
+    }
+
+    function requireSession() {
+        if (!sessionUser()) {
+            window.location.href = './index.html';
+            return false;
+        }
+        return true;
+    }
+
+    function cart() {
+        try {
+            var ids = JSON.parse(window.localStorage.getItem(CART_KEY) || '[]');
+            return ids instanceof Array ? ids : [];
+        } catch (e) {
+            return [];
+        }
+    }
+
+    function saveCart(ids) {
+        window.localStorage.setItem(CART_KEY, JSON.stringify(ids));
+        renderBadge();
+    }
+
+    function inCart(id) {
+        return cart().indexOf(id) >= 0;
+    }
+
+    function toggleCart(id) {
+        var ids = cart();
+        var index = ids.indexOf(id);
+        if (index >= 0) {
+            ids.splice(index, 1);
+        } else {
+            ids.push(id);
+        }
+        saveCart(ids);
+    }
+
+    function renderBadge() {
+        var link = document.querySelector('#shopping_cart_container .shopping_cart_link');
+        if (!link) {
+            return;
+        }
+        var count = cart().length;
+        var badge = link.querySelector('.shopping_cart_badge');
+        if (count === 0) {
+            if (badge) {
+                link.removeChild(badge);
+            }
+            return;
+        }
+        if (!badge) {
+            badge = document.createElement('span');
+            badge.className = 'fa-layers-counter shopping_cart_badge';
+            link.appendChild(badge);
+        }
+        badge.textContent = String(count);
+    }
+
+    function renderCartButton(button, id) {
+        if (inCart(id)) {
+            button.className = 'btn_secondary btn_inventory';
+            button.textContent = 'REMOVE';
+        } else {
+            button.className = 'btn_primary btn_inventory';
+            button.textContent = 'ADD TO CART';
+        }
+    }
+
+    function setMenuOpen(open) {
+        var wrap = document.querySelector('.bm-menu-wrap');
+        wrap.setAttribute('style', open
+            ? 'transform: translateX(0px);'
+            : 'transform: translateX(-100%); visibility: hidden;');
+        wrap.setAttribute('aria-hidden', open ? 'false' : 'true');
+    }
+
+    function initHeader() {
+        renderBadge();
+        setMenuOpen(false);
+        document.querySelector('.bm-burger-button button').onclick = function () {
+            setMenuOpen(true);
+        };
+        document.querySelector('.bm-cross-button button').onclick = function () {
+            setMenuOpen(false);
+        };
+        byId('inventory_sidebar_link').onclick = function () {
+            window.location.href = './inventory.html';
+            return false;
+        };
+        byId('reset_sidebar_link').onclick = function () {
+            saveCart([]);
+            return false;
+        };
+        byId('logout_sidebar_link').onclick = function () {
+            document.cookie = SESSION_COOKIE + '=; expires=Thu, 01 Jan 1970 00:00:00 GMT; path=/';
+            window.location.href = './index.html';
+            return false;
+        };
+    }
+
+    function cartItemHtml(p, withPrice) {
+        return '<div class="cart_item">'
+            + '<div class="cart_quantity">1</div>'
+            + '<div class="cart_item_label">'
+            + '<a href="./inventory-item.html?id=' + p.id + '" id="item_' + p.id + '_title_link">'
+            + '<div class="inventory_item_name">' + escapeHtml(p.name) + '</div></a>'
+            + '<div class="inventory_item_desc">' + escapeHtml(p.desc) + '</div>'
+            + '<div class="item_pricebar"><div class="inventory_item_price">' + (withPrice ? money(p.price) : p.price.toFixed(2)) + '</div></div>'
+            + '</div></div>';
+    }
+
+    function showError(container, message) {
+        container.innerHTML = '<h3 data-test="error"><button class="error-button">&#10005;</button>' + escapeHtml(message) + '</h3>';
+    }
+
+    return {
+        login: function () {
+            var form = byId('login_form');
+            form.onsubmit = function () {
+                var username = byId('user-name').value;
+                var password = byId('password').value;
+                var error = byId('login_error');
+                if (!username) {
+                    showError(error, 'Epic sadface: Username is required');
+                } else if (!password) {
+                    showError(error, 'Epic sadface: Password is required');
+                } else if (USERS.indexOf(username) < 0 || password !== PASSWORD) {
+                    showError(error, 'Epic sadface: Username and password do not match any user in this service');
+                } else if (username === 'locked_out_user') {
+                    showError(error, 'Epic sadface: Sorry, this user has been locked out.');
+                } else {
+                    document.cookie = SESSION_COOKIE + '=' + encodeURIComponent(username) + '; path=/';
+                    window.location.href = './inventory.html';
+                }
+                return false;
+            };
+        },
+
+        inventory: function () {
+            if (!requireSession()) {
+                return;
+            }
+            initHeader();
+            var html = '';
+            for (var i = 0; i < PRODUCTS.length; i++) {
+                var p = PRODUCTS[i];
+                html += '<div class="inventory_item">'
+                    + '<div class="inventory_item_img"><a href="./inventory-item.html?id=' + p.id + '" id="item_' + p.id + '_img_link">'
+                    + '<img src="./img/' + p.image + '.svg" class="inventory_item_img" alt="' + escapeHtml(p.name) + '"></a></div>'
+                    + '<div class="inventory_item_label">'
+                    + '<a href="./inventory-item.html?id=' + p.id + '" id="item_' + p.id + '_title_link">'
+                    + '<div class="inventory_item_name">' + escapeHtml(p.name) + '</div></a>'
+                    + '<div class="inventory_item_desc">' + escapeHtml(p.desc) + '</div></div>'
+                    + '<div class="pricebar"><div class="inventory_item_price">' + money(p.price) + '</div>'
+                    + '<button class="btn_primary btn_inventory" data-product-id="' + p.id + '">ADD TO CART</button></div>'
+                    + '</div>';
+            }
+            var list = document.querySelector('.inventory_list');
+            list.innerHTML = html;
+            var buttons = list.querySelectorAll('button.btn_inventory');
+            for (var b = 0; b < buttons.length; b++) {
+                (function (button) {
+                    var id = parseInt(button.getAttribute('data-product-id'), 10);
+                    renderCartButton(button, id);
+                    button.onclick = function () {
+                        toggleCart(id);
+                        renderCartButton(button, id);
+                    };
+                })(buttons[b]);
+            }
+        },
+
+        inventoryItem: function () {
+            if (!requireSession()) {
+                return;
+            }
+            initHeader();
+            var match = /[?&]id=(\d+)/.exec(window.location.search);
+            var p = match ? product(parseInt(match[1], 10)) : null;
+            var container = document.querySelector('.inventory_details_container');
+            if (!p) {
+                container.innerHTML = '<div class="inventory_details_name">ITEM NOT FOUND</div>';
+                return;
+            }
+            container.innerHTML = '<div class="inventory_details">'
+                + '<img src="./img/' + p.image + '.svg" class="inventory_details_img" alt="' + escapeHtml(p.name) + '">'
+                + '<div class="inventory_details_desc_container">'
+                + '<div class="inventory_details_name">' + escapeHtml(p.name) + '</div>'
+                + '<div class="inventory_details_desc">' + escapeHtml(p.desc) + '</div>'
+                + '<div class="inventory_details_price">' + money(p.price) + '</div>'
+                + '<button class="btn_primary btn_inventory">ADD TO CART</button>'
+                + '</div></div>';
+            var button = container.querySelector('button');
+            renderCartButton(button, p.id);
+            button.onclick = function () {
+                toggleCart(p.id);
+                renderCartButton(button, p.id);
+            };
+        },
+
+        cart: function () {
+            if (!requireSession()) {
+                return;
+            }
+            initHeader();
+            var ids = cart();
+            var html = '<div class="cart_quantity_label">QTY</div><div class="cart_desc_label">DESCRIPTION</div>';
+            for (var i = 0; i < ids.length; i++) {
+                var p = product(ids[i]);
+                if (p) {
+                    html += cartItemHtml(p, false);
+                }
+            }
+            document.querySelector('.cart_list').innerHTML = html;
+        },
+
+        checkoutStepOne: function () {
+            if (!requireSession()) {
+                return;
+            }
+            initHeader();
+            byId('checkout_info_form').onsubmit = function () {
+                var error = byId('checkout_error');
+                if (!byId('first-name').value) {
+                    showError(error, 'Error: First Name is required');
+                } else if (!byId('last-name').value) {
+                    showError(error, 'Error: Last Name is required');
+                } else if (!byId('postal-code').value) {
+                    showError(error, 'Error: Postal Code is required');
+                } else {
+                    window.location.href = './checkout-step-two.html';
+                }
+                return false;
+            };
+        },
+
+        checkoutStepTwo: function () {
+            if (!requireSession()) {
+                return;
+            }
+            initHeader();
+            var ids = cart();
+            var html = '<div class="cart_quantity_label">QTY</div><div class="cart_desc_label">DESCRIPTION</div>';
+            var subtotalCents = 0;
+            for (var i = 0; i < ids.length; i++) {
+                var p = product(ids[i]);
+                if (p) {
+                    html += cartItemHtml(p, true);
+                    subtotalCents += Math.round(p.price * 100);
+                }
+            }
+            document.querySelector('.cart_list').innerHTML = html;
+            var taxCents = Math.round(subtotalCents * TAX_RATE);
+            document.querySelector('.summary_subtotal_label').textContent = 'Item total: ' + money(subtotalCents / 100);
+            document.querySelector('.summary_tax_label').textContent = 'Tax: ' + money(taxCents / 100);
+            document.querySelector('.summary_total_label').textContent = 'Total: ' + money((subtotalCents + taxCents) / 100);
+            document.querySelector('a.btn_action.cart_button').onclick = function () {
+                saveCart([]);
+                window.location.href = './checkout-complete.html';
+                return false;
+            };
+        },
+
+        checkoutComplete: function () {
+            if (!requireSession()) {
+                return;
+            }
+            initHeader();
+        }
+    };
+})();